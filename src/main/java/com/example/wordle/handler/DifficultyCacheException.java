@@ -0,0 +1,5 @@
+package com.example.wordle.handler;
+
+public class DifficultyCacheException extends RuntimeException{
+    public DifficultyCacheException(String message, Throwable cause) {super(message, cause);}
+}
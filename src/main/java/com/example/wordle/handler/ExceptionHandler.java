@@ -12,7 +12,7 @@ public class ExceptionHandler implements CommandExceptionResolver {
     private static final Logger logger = LoggerFactory.getLogger(ExceptionHandler.class);
 
     private static final String ERROR_PREFIX = "[Error] ";
-    private static final String WARNING_PREFIX = "[Warning] ";
+    public static final String WARNING_PREFIX = "[Warning] ";
 
     /**
      * Maps handled exceptions to CLI output and logged details.
@@ -32,6 +32,11 @@ public class ExceptionHandler implements CommandExceptionResolver {
             return CommandHandlingResult.of(ERROR_PREFIX + ex.getMessage());
         }
 
+        if(e instanceof HistoryIOException ex){
+            logger.error("Error occurred while reading game history: {}", ex.getMessage());
+            return CommandHandlingResult.of(ERROR_PREFIX + ex.getMessage());
+        }
+
         if(e instanceof NoGameStartedException ex){
             logger.warn("No game started: {}", ex.getMessage());
             return CommandHandlingResult.of(WARNING_PREFIX + ex.getMessage());
@@ -0,0 +1,5 @@
+package com.example.wordle.handler;
+
+public class HistoryIOException extends RuntimeException{
+    public HistoryIOException(String message, Throwable cause) {super(message, cause);}
+}
@@ -0,0 +1,5 @@
+package com.example.wordle.handler;
+
+public class SessionSnapshotException extends RuntimeException{
+    public SessionSnapshotException(String message, Throwable cause) {super(message, cause);}
+}
@@ -0,0 +1,172 @@
+package com.example.wordle.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The letters of a dictionary's language. Every letter maps to a dense index in [0, size), so letter sets, counts
+ * and bitmasks work the same way for every language. Words are case folded with the alphabet's locale. Letters are
+ * single characters, so digraphs such as the Hungarian "cs" count as two letters.
+ */
+@Getter
+public final class Alphabet {
+
+    public static final int MAX_SIZE = Long.SIZE;
+
+    public static final Alphabet ENGLISH = new Alphabet("english", Locale.ENGLISH, "abcdefghijklmnopqrstuvwxyz",
+            List.of("qwertyuiop", "asdfghjkl", "zxcvbnm"));
+    public static final Alphabet HUNGARIAN = new Alphabet("hungarian", Locale.forLanguageTag("hu"),
+            "aábcdeéfghiíjklmnoóöőpqrstuúüűvwxyz", List.of("öüó", "qwertzuiopőú", "asdfghjkléáű", "íyxcvbnm"));
+    public static final Alphabet GERMAN = new Alphabet("german", Locale.GERMAN, "aäbcdefghijklmnoöpqrsßtuüvwxyz",
+            List.of("qwertzuiopüß", "asdfghjklöä", "yxcvbnm"));
+    public static final Alphabet SPANISH = new Alphabet("spanish", Locale.forLanguageTag("es"),
+            "aábcdeéfghiíjklmnñoópqrstuúüvwxyz", List.of("qwertyuiop", "asdfghjklñ", "zxcvbnm", "áéíóúü"));
+
+    private static final List<Alphabet> PREDEFINED = List.of(ENGLISH, HUNGARIAN, GERMAN, SPANISH);
+
+    private final String name;
+    private final Locale locale;
+    private final String letters;
+    private final List<String> keyboardRows;
+    @Getter(AccessLevel.NONE)
+    private final byte[] letterIndexes;
+    @Getter(AccessLevel.NONE)
+    private final String[] letterStrings;
+
+    /**
+     * Defines an alphabet.
+     *
+     * @param name The name of the alphabet.
+     * @param locale The locale used for case folding.
+     * @param letters The distinct lowercase letters, their order gives the dense indexes.
+     * @param keyboardRows The on-screen keyboard rows, letters missing from them are shown on an extra row.
+     * @throws IllegalArgumentException If the letters are not distinct lowercase letters, there are more than
+     * {@link #MAX_SIZE} of them, or a keyboard row holds a character outside the alphabet.
+     */
+    public Alphabet(String name, Locale locale, String letters, List<String> keyboardRows) {
+        if (letters.isEmpty() || letters.length() > MAX_SIZE)
+            throw new IllegalArgumentException("Alphabet must have 1 to " + MAX_SIZE + " letters: " + name);
+        this.name = name;
+        this.locale = locale;
+        this.letters = letters;
+
+        int maxLetter = letters.chars().max().orElseThrow();
+        letterIndexes = new byte[maxLetter + 1];
+        Arrays.fill(letterIndexes, (byte) -1);
+        letterStrings = new String[letters.length()];
+        for (int index = 0; index < letters.length(); index++) {
+            char letter = letters.charAt(index);
+            if (!Character.isLetter(letter) || letterIndexes[letter] >= 0 ||
+                    !String.valueOf(letter).toLowerCase(locale).equals(String.valueOf(letter)))
+                throw new IllegalArgumentException("Invalid or repeated letter '" + letter + "' in alphabet: " + name);
+            letterIndexes[letter] = (byte) index;
+            letterStrings[index] = String.valueOf(letter);
+        }
+        this.keyboardRows = buildKeyboardRows(keyboardRows);
+    }
+
+    /**
+     * Gets a predefined alphabet by name.
+     *
+     * @param name The name of the alphabet, ignoring case: english, hungarian, german or spanish.
+     * @return The matching Alphabet.
+     * @throws IllegalArgumentException If there is no alphabet with this name.
+     */
+    public static Alphabet forName(String name) {
+        for (Alphabet alphabet : PREDEFINED) {
+            if (alphabet.name.equalsIgnoreCase(name.trim())) return alphabet;
+        }
+        throw new IllegalArgumentException("Unknown alphabet '" + name + "', use one of " +
+                PREDEFINED.stream().map(Alphabet::getName).toList());
+    }
+
+    /**
+     * @return The number of letters.
+     */
+    public int size() {
+        return letterStrings.length;
+    }
+
+    /**
+     * Gets the dense index of a lowercase letter.
+     *
+     * @param letter A case folded character.
+     * @return The index of the letter, or -1 if it is not in the alphabet.
+     */
+    public int indexOf(char letter) {
+        return letter < letterIndexes.length ? letterIndexes[letter] : -1;
+    }
+
+    /**
+     * Gets the letter at a dense index.
+     *
+     * @param index The index of the letter.
+     * @return The lowercase letter.
+     */
+    public char letterAt(int index) {
+        return letters.charAt(index);
+    }
+
+    /**
+     * Gets the letter at a dense index as a cached string, for rendering without allocation.
+     *
+     * @param index The index of the letter.
+     * @return The lowercase letter as a String.
+     */
+    public String letterString(int index) {
+        return letterStrings[index];
+    }
+
+    /**
+     * Case folds a word with the alphabet's locale.
+     *
+     * @param word The word to fold.
+     * @return The lowercase word, the same instance if it is lowercase already.
+     */
+    public String fold(String word) {
+        return word.toLowerCase(locale);
+    }
+
+    /**
+     * Checks whether every character of a case folded word is a letter of the alphabet.
+     *
+     * @param word The case folded word.
+     * @return True if the word only has letters of the alphabet.
+     */
+    public boolean isWord(CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (indexOf(word.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private List<String> buildKeyboardRows(List<String> rows) {
+        boolean[] placed = new boolean[size()];
+        List<String> result = new ArrayList<>(rows);
+        for (String row : rows) {
+            for (int i = 0; i < row.length(); i++) {
+                int index = indexOf(row.charAt(i));
+                if (index < 0 || placed[index])
+                    throw new IllegalArgumentException("Invalid or repeated key '" + row.charAt(i) +
+                            "' in keyboard of alphabet: " + name);
+                placed[index] = true;
+            }
+        }
+
+        StringBuilder missing = new StringBuilder();
+        for (int index = 0; index < placed.length; index++) {
+            if (!placed[index]) missing.append(letterAt(index));
+        }
+        if (!missing.isEmpty()) result.add(missing.toString());
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.wordle.model;
+
+import lombok.Getter;
+import java.util.Arrays;
+
+/**
+ * An answer prepared for scoring many guesses against it. The letter counts of the answer are computed once and
+ * packed into a long, four bits per distinct letter, so scoring a guess takes two linear passes and never allocates.
+ * Profiles are immutable and can be shared between threads. Answers of up to 15 letters are supported.
+ */
+public final class AnswerProfile {
+
+    private static final int MAX_LENGTH = 15;
+    private static final int COUNT_BITS = 4;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int BASE = LetterResult.values().length;
+    private static final int PRESENT = LetterResult.PRESENT.ordinal();
+    private static final int ABSENT = LetterResult.ABSENT.ordinal();
+
+    @Getter
+    private final String answer;
+    private final char[] letters;
+    private final int[] slots;
+    private final char[] distinctLetters;
+    private final long letterCounts;
+
+    /**
+     * Creates the profile of an answer.
+     *
+     * @param answer The lowercase answer word.
+     * @throws IllegalArgumentException If the answer is empty or longer than 15 letters.
+     */
+    public AnswerProfile(String answer) {
+        if (answer == null || answer.isEmpty() || answer.length() > MAX_LENGTH)
+            throw new IllegalArgumentException("Answer must have 1 to " + MAX_LENGTH + " letters!\n");
+        this.answer = answer;
+        this.letters = answer.toCharArray();
+        this.slots = new int[letters.length];
+
+        char[] distinct = new char[letters.length];
+        int distinctCount = 0;
+        long counts = 0;
+        for (int pos = 0; pos < letters.length; pos++) {
+            int slot = 0;
+            while (slot < distinctCount && distinct[slot] != letters[pos]) slot++;
+            if (slot == distinctCount) distinct[distinctCount++] = letters[pos];
+            slots[pos] = slot;
+            counts += 1L << slot * COUNT_BITS;
+        }
+        this.distinctLetters = Arrays.copyOf(distinct, distinctCount);
+        this.letterCounts = counts;
+    }
+
+    /**
+     * Scores a guess against the answer, giving the same pattern code as {@link GuessScorer#score}.
+     *
+     * @param guess The lowercase guess, at least as long as the answer.
+     * @return The pattern code of the feedback.
+     */
+    public int score(CharSequence guess) {
+        long counts = letterCounts;
+        int correct = 0;
+        for (int pos = 0; pos < letters.length; pos++) {
+            if (guess.charAt(pos) == letters[pos]) {
+                correct |= 1 << pos;
+                counts -= 1L << slots[pos] * COUNT_BITS;
+            }
+        }
+
+        int code = 0;
+        int digit = 1;
+        for (int pos = 0; pos < letters.length; pos++, digit *= BASE) {
+            if ((correct & (1 << pos)) != 0) continue;
+            int shift = slotOf(guess.charAt(pos)) * COUNT_BITS;
+            if (shift >= 0 && (counts >>> shift & COUNT_MASK) != 0) {
+                counts -= 1L << shift;
+                code += PRESENT * digit;
+            } else {
+                code += ABSENT * digit;
+            }
+        }
+        return code;
+    }
+
+    private int slotOf(char letter) {
+        for (int slot = 0; slot < distinctLetters.length; slot++) {
+            if (distinctLetters[slot] == letter) return slot;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.wordle.model;
+
+import java.util.Locale;
+
+/**
+ * Difficulty tiers of the answers, measured by how many guesses a reference solver needs for them. Every tier holds
+ * about the same share of the dictionary.
+ */
+public enum Difficulty {
+    EASY,
+    MEDIUM,
+    HARD;
+
+    /**
+     * Parses a difficulty name, ignoring case.
+     *
+     * @param name The name of the difficulty, e.g. "easy".
+     * @return The matching Difficulty.
+     * @throws IllegalArgumentException If the name is not a difficulty.
+     */
+    public static Difficulty fromName(String name) {
+        for (Difficulty difficulty : values()) {
+            if (difficulty.name().equalsIgnoreCase(name.trim())) return difficulty;
+        }
+        throw new IllegalArgumentException("Difficulty must be easy, medium or hard, not '" + name + "'!\n");
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
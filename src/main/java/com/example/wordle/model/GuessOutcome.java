@@ -0,0 +1,33 @@
+package com.example.wordle.model;
+
+import java.util.List;
+
+/**
+ * The result of a guess: whether it was accepted and, if so, the feedback for its letters.
+ *
+ * @param status The validation status of the guess.
+ * @param feedback The LetterResult for all the letters in the guess, empty if the guess was rejected.
+ */
+public record GuessOutcome(GuessStatus status, List<LetterResult> feedback) {
+
+    private static final GuessOutcome[] REJECTED = new GuessOutcome[GuessStatus.values().length];
+
+    static {
+        for (GuessStatus status : GuessStatus.values())
+            REJECTED[status.ordinal()] = new GuessOutcome(status, List.of());
+    }
+
+    /**
+     * Gets the shared outcome of a rejected guess, rejections carry no feedback so they need no allocation.
+     *
+     * @param status The reason of the rejection.
+     * @return The outcome for the given status.
+     */
+    public static GuessOutcome rejected(GuessStatus status) {
+        return REJECTED[status.ordinal()];
+    }
+
+    public boolean isAccepted() {
+        return status == GuessStatus.ACCEPTED;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.wordle.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores guesses against answers without allocating. The feedback is packed into a single int pattern code: a base-3
+ * number whose digit at position i is the {@link LetterResult} ordinal of the i-th letter, so an all-correct guess
+ * scores 0. Codes fit words of up to 19 letters.
+ */
+public final class GuessScorer {
+
+    public static final int ALL_CORRECT = 0;
+
+    private static final LetterResult[] RESULTS = LetterResult.values();
+    private static final int BASE = RESULTS.length;
+    private static final int CORRECT = LetterResult.CORRECT.ordinal();
+    private static final int PRESENT = LetterResult.PRESENT.ordinal();
+    private static final int ABSENT = LetterResult.ABSENT.ordinal();
+    private static final List<List<LetterResult>> GAME_FEEDBACK = buildFeedbackLists(WordleGame.MAX_LETTERS);
+
+    private GuessScorer() {
+    }
+
+    /**
+     * Scores a guess against the answer: a letter is correct in the right position, present if an unmatched copy of it
+     * is elsewhere in the answer, and absent otherwise.
+     *
+     * @param answer The lowercase answer word.
+     * @param guess The lowercase guess, at least as long as the answer.
+     * @return The pattern code of the feedback.
+     */
+    public static int score(CharSequence answer, CharSequence guess) {
+        final int length = answer.length();
+        int used = 0;
+        for (int pos = 0; pos < length; pos++) {
+            if (guess.charAt(pos) == answer.charAt(pos)) used |= 1 << pos;
+        }
+        final int correct = used;
+
+        int code = 0;
+        int digit = 1;
+        for (int guessPos = 0; guessPos < length; guessPos++, digit *= BASE) {
+            int result = ABSENT;
+            if ((correct & (1 << guessPos)) != 0) {
+                result = CORRECT;
+            } else {
+                char guessChar = guess.charAt(guessPos);
+                for (int answerPos = 0; answerPos < length; answerPos++) {
+                    if ((used & (1 << answerPos)) == 0 && answer.charAt(answerPos) == guessChar) {
+                        used |= 1 << answerPos;
+                        result = PRESENT;
+                        break;
+                    }
+                }
+            }
+            code += result * digit;
+        }
+        return code;
+    }
+
+    /**
+     * Gets the result of a single letter from a pattern code.
+     *
+     * @param code The pattern code.
+     * @param position The position of the letter.
+     * @return The LetterResult at the given position.
+     */
+    public static LetterResult resultAt(int code, int position) {
+        for (int i = 0; i < position; i++) code /= BASE;
+        return RESULTS[code % BASE];
+    }
+
+    /**
+     * Expands a pattern code into per-letter feedback. Codes of {@link WordleGame#MAX_LETTERS} long words map to
+     * shared precomputed lists.
+     *
+     * @param code The pattern code.
+     * @param length The length of the scored word.
+     * @return Unmodifiable list of LetterResult for all the letters.
+     */
+    public static List<LetterResult> toList(int code, int length) {
+        if (length == WordleGame.MAX_LETTERS) return GAME_FEEDBACK.get(code);
+        return decode(code, length);
+    }
+
+    /**
+     * Gets the number of distinct pattern codes for words of the given length.
+     *
+     * @param length The word length.
+     * @return The number of possible feedback patterns.
+     */
+    public static int patternCount(int length) {
+        int count = 1;
+        for (int i = 0; i < length; i++) count *= BASE;
+        return count;
+    }
+
+    private static List<LetterResult> decode(int code, int length) {
+        LetterResult[] results = new LetterResult[length];
+        for (int pos = 0; pos < length; pos++, code /= BASE) results[pos] = RESULTS[code % BASE];
+        return List.of(results);
+    }
+
+    private static List<List<LetterResult>> buildFeedbackLists(int length) {
+        int count = patternCount(length);
+        List<List<LetterResult>> lists = new ArrayList<>(count);
+        for (int code = 0; code < count; code++) lists.add(decode(code, length));
+        return List.copyOf(lists);
+    }
+}
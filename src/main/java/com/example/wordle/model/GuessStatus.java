@@ -0,0 +1,36 @@
+package com.example.wordle.model;
+
+import com.example.wordle.handler.NoGameStartedException;
+import lombok.Getter;
+
+@Getter
+public enum GuessStatus {
+    ACCEPTED(""),
+    INVALID_FORMAT("Guess must be " + WordleGame.MAX_LETTERS + " alphabetic characters long!" +
+            " (No digits or symbols allowed)\n"),
+    ALREADY_GUESSED("You have already guessed this word!\n"),
+    HARD_MODE_VIOLATION("Hard mode: your guess must use all the hints revealed so far!\n"),
+    GAME_OVER("Game over! Type 'start' for a new game."),
+    NO_GAME("No game started! Type 'start' to begin.");
+
+    private final String message;
+
+    GuessStatus(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Converts a rejected status into the exception the throwing API reports it with.
+     *
+     * @return The exception matching the rejection reason.
+     * @throws IllegalStateException If the status is {@link #ACCEPTED}.
+     */
+    public RuntimeException toException() {
+        return switch (this) {
+            case ACCEPTED -> throw new IllegalStateException("An accepted guess has no exception.");
+            case INVALID_FORMAT, ALREADY_GUESSED, HARD_MODE_VIOLATION -> new IllegalArgumentException(message);
+            case GAME_OVER -> new NoGameStartedException(message, null);
+            case NO_GAME -> new IllegalStateException(message);
+        };
+    }
+}
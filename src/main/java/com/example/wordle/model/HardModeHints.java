@@ -0,0 +1,107 @@
+package com.example.wordle.model;
+
+import java.util.Arrays;
+
+/**
+ * The hints revealed in a hard mode game, kept as incremental constraints so that checking a guess costs a handful of
+ * bit operations no matter how many attempts came before: the letter known at each position, the letters ruled out at
+ * each position as a bitmask, the bounds of each letter's count, and the letters whose count has to be checked.
+ * Letters are indexed by their {@link Alphabet}, so the masks fit alphabets of up to {@link Alphabet#MAX_SIZE} letters.
+ */
+public class HardModeHints {
+
+    private static final int WORD_LENGTH = WordleGame.MAX_LETTERS;
+
+    private final Alphabet alphabet;
+    private final char[] knownLetters = new char[WORD_LENGTH];
+    private final long[] bannedLetters = new long[WORD_LENGTH];
+    private final int[] minLetterCounts;
+    private final int[] maxLetterCounts;
+    private long requiredLetters;
+    private long countedLetters;
+
+    public HardModeHints() {
+        this(Alphabet.ENGLISH);
+    }
+
+    public HardModeHints(Alphabet alphabet) {
+        this.alphabet = alphabet;
+        this.minLetterCounts = new int[alphabet.size()];
+        this.maxLetterCounts = new int[alphabet.size()];
+        Arrays.fill(maxLetterCounts, WORD_LENGTH);
+    }
+
+    /**
+     * Checks whether the guess uses all the hints revealed so far.
+     *
+     * @param guess The lowercase guess.
+     * @return True if the guess is allowed in hard mode.
+     */
+    public boolean allows(String guess) {
+        long guessLetters = 0;
+        for (int pos = 0; pos < WORD_LENGTH; pos++) {
+            char c = guess.charAt(pos);
+            if (knownLetters[pos] != 0 && knownLetters[pos] != c) return false;
+
+            int letter = alphabet.indexOf(c);
+            if (letter < 0) continue;
+            if ((bannedLetters[pos] & (1L << letter)) != 0) return false;
+            guessLetters |= 1L << letter;
+        }
+        if ((requiredLetters & ~guessLetters) != 0) return false;
+
+        long lettersToCount = guessLetters & countedLetters;
+        while (lettersToCount != 0) {
+            int letter = Long.numberOfTrailingZeros(lettersToCount);
+            lettersToCount &= lettersToCount - 1;
+            int count = countLetter(guess, alphabet.letterAt(letter));
+            if (count < minLetterCounts[letter] || count > maxLetterCounts[letter]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Folds the feedback of an accepted guess into the hints.
+     *
+     * @param guess The lowercase guess.
+     * @param feedback The pattern code of the guess, see {@link GuessScorer}.
+     */
+    public void record(String guess, int feedback) {
+        long seenLetters = 0;
+        for (int pos = 0; pos < WORD_LENGTH; pos++) {
+            char c = guess.charAt(pos);
+            LetterResult result = GuessScorer.resultAt(feedback, pos);
+            if (result == LetterResult.CORRECT) knownLetters[pos] = c;
+
+            int letter = alphabet.indexOf(c);
+            if (letter < 0) continue;
+            if (result != LetterResult.CORRECT) bannedLetters[pos] |= 1L << letter;
+            if ((seenLetters & (1L << letter)) != 0) continue;
+            seenLetters |= 1L << letter;
+
+            int confirmed = 0;
+            boolean absent = false;
+            for (int other = pos; other < WORD_LENGTH; other++) {
+                if (guess.charAt(other) != c) continue;
+                if (GuessScorer.resultAt(feedback, other) == LetterResult.ABSENT) absent = true;
+                else confirmed++;
+            }
+
+            minLetterCounts[letter] = Math.max(minLetterCounts[letter], confirmed);
+            if (absent) maxLetterCounts[letter] = confirmed;
+            if (minLetterCounts[letter] > 0) requiredLetters |= 1L << letter;
+            if (minLetterCounts[letter] > 1 || maxLetterCounts[letter] < WORD_LENGTH) countedLetters |= 1L << letter;
+            if (maxLetterCounts[letter] == 0) {
+                for (int other = 0; other < WORD_LENGTH; other++) bannedLetters[other] |= 1L << letter;
+            }
+        }
+    }
+
+    private static int countLetter(String word, char c) {
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == c) count++;
+        }
+        return count;
+    }
+}
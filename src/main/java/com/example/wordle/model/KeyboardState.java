@@ -0,0 +1,67 @@
+package com.example.wordle.model;
+
+/**
+ * Tracks the best known {@link LetterResult} of every letter over the guesses of a game. Each guess updates it in
+ * place, so the state never has to be rebuilt from the previous attempts. Letters are indexed by their
+ * {@link Alphabet}, two longs hold the states of up to {@link Alphabet#MAX_SIZE} letters.
+ */
+public class KeyboardState {
+
+    private static final LetterResult[] RESULTS = LetterResult.values();
+    private static final int UNKNOWN = 0;
+    private static final int STATE_BITS = 2;
+    private static final long STATE_MASK = (1L << STATE_BITS) - 1;
+    private static final int LETTERS_PER_LONG = Long.SIZE / STATE_BITS;
+
+    private final Alphabet alphabet;
+    // two bits per letter: 0 for letters not guessed yet, otherwise the result ordinal + 1, lower ordinals are better
+    private long lowLetterStates;
+    private long highLetterStates;
+
+    public KeyboardState() {
+        this(Alphabet.ENGLISH);
+    }
+
+    public KeyboardState(Alphabet alphabet) {
+        this.alphabet = alphabet;
+    }
+
+    /**
+     * Records the feedback of a guess, keeping the better result for letters already known.
+     *
+     * @param guess The lowercase guess.
+     * @param feedback The pattern code of the guess, see {@link GuessScorer}.
+     */
+    public void record(CharSequence guess, int feedback) {
+        for (int pos = 0; pos < guess.length(); pos++, feedback /= RESULTS.length) {
+            int letter = alphabet.indexOf(guess.charAt(pos));
+            if (letter < 0) continue;
+            long state = feedback % RESULTS.length + 1;
+            long known = stateBits(letter);
+            if (known == UNKNOWN || state < known) {
+                int shift = letter % LETTERS_PER_LONG * STATE_BITS;
+                if (letter < LETTERS_PER_LONG)
+                    lowLetterStates = (lowLetterStates & ~(STATE_MASK << shift)) | state << shift;
+                else
+                    highLetterStates = (highLetterStates & ~(STATE_MASK << shift)) | state << shift;
+            }
+        }
+    }
+
+    /**
+     * Gets the best known result of a letter.
+     *
+     * @param letter A lowercase letter.
+     * @return The best LetterResult seen for the letter, or null if it has not been guessed yet.
+     */
+    public LetterResult stateOf(char letter) {
+        int index = alphabet.indexOf(letter);
+        if (index < 0 || stateBits(index) == UNKNOWN) return null;
+        return RESULTS[(int) stateBits(index) - 1];
+    }
+
+    private long stateBits(int letter) {
+        long states = letter < LETTERS_PER_LONG ? lowLetterStates : highLetterStates;
+        return states >>> letter % LETTERS_PER_LONG * STATE_BITS & STATE_MASK;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.wordle.model;
+
+/**
+ * A dictionary word together with its relative selection frequency.
+ *
+ * @param word The lowercase word.
+ * @param weight The relative frequency of the word, words without a frequency column have weight 1.
+ */
+public record WeightedWord(String word, double weight) {
+}
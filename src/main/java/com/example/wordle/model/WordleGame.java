@@ -1,6 +1,7 @@
 package com.example.wordle.model;
 
 import com.example.wordle.handler.NoGameStartedException;
+import lombok.AccessLevel;
 import lombok.Getter;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,14 +14,87 @@ public class WordleGame {
     public static final int MAX_LETTERS = 5;
 
     private final String answer;
+    private final Alphabet alphabet;
+    private final boolean hardMode;
+    private final long startedAtMillis;
     private final List<String> previousAttempts = new ArrayList<>();
     private int remainingAttempts;
     private boolean finished = false;
+    private int lastFeedback = GuessScorer.ALL_CORRECT;
+    private final KeyboardState keyboard;
+    @Getter(AccessLevel.NONE)
+    private final HardModeHints hints;
+    @Getter(AccessLevel.NONE)
+    private final AnswerProfile profile;
 
     public WordleGame(String answer) {
-        Objects.requireNonNull(answer, "Answer cannot be null!\n");
-        this.answer = answer.toLowerCase();
+        this(answer, false);
+    }
+
+    public WordleGame(String answer, boolean hardMode) {
+        this(answer, hardMode, System.currentTimeMillis());
+    }
+
+    public WordleGame(String answer, boolean hardMode, long startedAtMillis) {
+        this(answer, hardMode, startedAtMillis, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Creates a game whose guesses are case folded and checked with the letters of the given alphabet.
+     *
+     * @param answer The answer word.
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @param startedAtMillis The time the game was started.
+     * @param alphabet The alphabet of the dictionary the answer comes from.
+     */
+    public WordleGame(String answer, boolean hardMode, long startedAtMillis, Alphabet alphabet) {
+        this(alphabet.fold(Objects.requireNonNull(answer, "Answer cannot be null!\n")), hardMode, startedAtMillis,
+                alphabet, null);
+    }
+
+    /**
+     * Creates a game scored against a shared answer profile, e.g. one of many games with the same answer.
+     *
+     * @param profile The profile of the lowercase answer.
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @param alphabet The alphabet of the dictionary the answer comes from.
+     */
+    public WordleGame(AnswerProfile profile, boolean hardMode, Alphabet alphabet) {
+        this(Objects.requireNonNull(profile, "Answer cannot be null!\n").getAnswer(), hardMode,
+                System.currentTimeMillis(), alphabet, profile);
+    }
+
+    private WordleGame(String answer, boolean hardMode, long startedAtMillis, Alphabet alphabet,
+                       AnswerProfile profile) {
+        this.answer = answer;
+        this.alphabet = alphabet;
+        this.hardMode = hardMode;
+        this.startedAtMillis = startedAtMillis;
         this.remainingAttempts = MAX_ATTEMPTS;
+        this.keyboard = new KeyboardState(alphabet);
+        this.hints = hardMode ? new HardModeHints(alphabet) : null;
+        this.profile = profile;
+    }
+
+    /**
+     * Rebuilds a saved game by replaying its attempts without validating them again. Replaying stops once the game
+     * is finished.
+     *
+     * @param answer The answer of the saved game.
+     * @param hardMode True if the saved game was in hard mode.
+     * @param startedAtMillis The time the saved game was started.
+     * @param alphabet The alphabet of the saved game.
+     * @param attempts The lowercase attempts of the saved game in order.
+     * @return The rebuilt game.
+     */
+    public static WordleGame restore(String answer, boolean hardMode, long startedAtMillis, Alphabet alphabet,
+                                     List<String> attempts) {
+        WordleGame game = new WordleGame(answer, hardMode, startedAtMillis, alphabet);
+        for (String attempt : attempts) {
+            if (game.finished) break;
+            game.record(attempt);
+        }
+        return game;
     }
 
     /**
@@ -29,24 +103,54 @@ public class WordleGame {
      * @param guess The player's guess.
      * @throws NoGameStartedException If the guess is attempted after the game is ended.
      * @throws IllegalArgumentException If the guess is null, contains invalid character, invalid length,
-     * or already guessed.
+     * already guessed, or ignores a revealed hint in hard mode.
      */
     public void attempt(String guess) {
-        if (finished) throw new NoGameStartedException("Game over! Type 'start' for a new game.", null);
+        GuessStatus status = tryAttempt(guess);
+        if (status != GuessStatus.ACCEPTED) throw status.toException();
+    }
 
-        if (guess == null || guess.length() != MAX_LETTERS || !guess.chars().allMatch(Character::isLetter))
-            throw new IllegalArgumentException("Guess must be " + MAX_LETTERS+ " alphabetic characters long!" +
-                " (No digits or symbols allowed)\n");
+    /**
+     * Handles the player's guess like {@link #attempt(String)}, but reports routine mistakes as a status instead of
+     * throwing an exception. The feedback of an accepted guess is available from {@link #getLastFeedback()}.
+     *
+     * @param guess The player's guess.
+     * @return {@link GuessStatus#ACCEPTED} if the guess was recorded, otherwise the reason it was rejected.
+     */
+    public GuessStatus tryAttempt(String guess) {
+        GuessStatus status = validate(guess);
+        if (status != GuessStatus.ACCEPTED) return status;
 
-        String guessLowerCase = guess.toLowerCase();
-        if (previousAttempts.contains(guessLowerCase))
-            throw new IllegalArgumentException("You have already guessed " + "this word!\n");
+        record(alphabet.fold(guess));
+        return status;
+    }
 
+    /**
+     * Checks whether the guess would be accepted, without changing the game state.
+     *
+     * @param guess The player's guess.
+     * @return {@link GuessStatus#ACCEPTED} if the guess is valid, otherwise the reason it would be rejected.
+     */
+    public GuessStatus validate(String guess) {
+        if (finished) return GuessStatus.GAME_OVER;
+        if (guess == null) return GuessStatus.INVALID_FORMAT;
+
+        String guessLowerCase = alphabet.fold(guess);
+        if (guessLowerCase.length() != MAX_LETTERS || !alphabet.isWord(guessLowerCase))
+            return GuessStatus.INVALID_FORMAT;
+        if (previousAttempts.contains(guessLowerCase)) return GuessStatus.ALREADY_GUESSED;
+        if (hints != null && !hints.allows(guessLowerCase)) return GuessStatus.HARD_MODE_VIOLATION;
+        return GuessStatus.ACCEPTED;
+    }
+
+    private void record(String guessLowerCase) {
         previousAttempts.add(guessLowerCase);
         remainingAttempts--;
+        lastFeedback = profile != null ? profile.score(guessLowerCase) : GuessScorer.score(answer, guessLowerCase);
+        keyboard.record(guessLowerCase, lastFeedback);
+        if (hints != null) hints.record(guessLowerCase, lastFeedback);
 
         if (answer.equals(guessLowerCase) || remainingAttempts == 0)
             finished = true;
-
     }
 }
@@ -0,0 +1,91 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.handler.DifficultyCacheException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Caches the measured difficulty of the dictionary words, one file per dictionary content hash, so the reference
+ * solver only runs again when the dictionary changes.
+ * File layout: magic, version, word count, then the number of solver guesses for every word as one byte each.
+ */
+@Repository
+public class DifficultyRepository {
+
+    private static final int MAGIC = 0x57444946; // "WDIF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+
+    private final String cacheDirectory;
+
+    public DifficultyRepository(@Value("${wordle.difficulty.cache-dir:}") String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Checks whether a cache directory is configured.
+     *
+     * @return True if measured difficulties are cached.
+     */
+    public boolean isEnabled() {
+        return cacheDirectory != null && !cacheDirectory.isBlank();
+    }
+
+    /**
+     * Reads the cached solver guesses of a dictionary.
+     *
+     * @param dictionaryHash The content hash of the dictionary.
+     * @param wordCount The number of words in the dictionary.
+     * @return The number of guesses for every word, or null if the dictionary has not been cached.
+     * @throws DifficultyCacheException If the cache file cannot be read or does not match the dictionary.
+     */
+    public int[] load(String dictionaryHash, int wordCount) {
+        Path source = cacheFile(dictionaryHash);
+        if (!Files.exists(source)) return null;
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(source));
+            if (buffer.remaining() != HEADER_BYTES + wordCount || buffer.getInt() != MAGIC ||
+                    buffer.getInt() != VERSION || buffer.getInt() != wordCount)
+                throw new DifficultyCacheException("Invalid difficulty cache file: " + source, null);
+
+            int[] guesses = new int[wordCount];
+            for (int i = 0; i < wordCount; i++) guesses[i] = buffer.get() & 0xFF;
+            return guesses;
+        } catch (IOException e) {
+            throw new DifficultyCacheException("Error reading difficulty cache: " + source, e);
+        }
+    }
+
+    /**
+     * Writes the solver guesses of a dictionary into the cache, replacing the previous file atomically.
+     *
+     * @param dictionaryHash The content hash of the dictionary.
+     * @param guesses The number of guesses for every word.
+     * @throws DifficultyCacheException If the cache file cannot be written.
+     */
+    public void save(String dictionaryHash, int[] guesses) {
+        Path target = cacheFile(dictionaryHash);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + guesses.length);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(guesses.length);
+        for (int guessCount : guesses) buffer.put((byte) Math.min(guessCount, 0xFF));
+
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new DifficultyCacheException("Error writing difficulty cache: " + target, e);
+        }
+    }
+
+    private Path cacheFile(String dictionaryHash) {
+        return Path.of(cacheDirectory, "difficulty-" + dictionaryHash + ".bin");
+    }
+}
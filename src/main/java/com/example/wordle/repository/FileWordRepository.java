@@ -1,6 +1,9 @@
 package com.example.wordle.repository;
 
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
 import com.example.wordle.util.WordLoader;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import java.io.InputStream;
@@ -10,14 +13,33 @@ import java.util.List;
 public class FileWordRepository implements WordRepository {
 
     private final String dictionaryFile;
+    private final Alphabet alphabet;
 
-    public FileWordRepository(@Value("${wordle.dictionary}") String dictionaryFile) {
+    public FileWordRepository(String dictionaryFile) {
+        this(dictionaryFile, Alphabet.ENGLISH.getName());
+    }
+
+    @Autowired
+    public FileWordRepository(@Value("${wordle.dictionary}") String dictionaryFile,
+                              @Value("${wordle.alphabet:english}") String alphabet) {
         this.dictionaryFile = dictionaryFile;
+        this.alphabet = Alphabet.forName(alphabet);
     }
 
     @Override
     public List<String> loadWords() {
         InputStream inputStream = WordLoader.class.getResourceAsStream(dictionaryFile);
-        return WordLoader.loadWordList(inputStream, dictionaryFile);
+        return WordLoader.loadWordList(inputStream, dictionaryFile, alphabet);
+    }
+
+    @Override
+    public List<WeightedWord> loadWeightedWords() {
+        InputStream inputStream = WordLoader.class.getResourceAsStream(dictionaryFile);
+        return WordLoader.loadWeightedWordList(inputStream, dictionaryFile, alphabet);
+    }
+
+    @Override
+    public Alphabet getAlphabet() {
+        return alphabet;
     }
 }
@@ -0,0 +1,16 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.WordleGame;
+
+/**
+ * A live game captured in a snapshot.
+ *
+ * @param sessionId The id of the player's session, or null for the game of the local shell.
+ * @param game The game of the session.
+ */
+public record SessionSnapshot(String sessionId, WordleGame game) {
+
+    public boolean isLocal() {
+        return sessionId == null;
+    }
+}
@@ -1,7 +1,31 @@
 package com.example.wordle.repository;
 
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
+
 import java.util.List;
 
 public interface WordRepository {
     List<String> loadWords();
+
+    /**
+     * Loads the words together with their selection frequencies. Repositories without frequency data give every
+     * word the same weight.
+     *
+     * @return List of words with their weights.
+     */
+    default List<WeightedWord> loadWeightedWords() {
+        return loadWords().stream()
+                .map(word -> new WeightedWord(word, 1))
+                .toList();
+    }
+
+    /**
+     * Gets the alphabet of the words, used for case folding and letter indexing.
+     *
+     * @return The alphabet of the repository, English unless overridden.
+     */
+    default Alphabet getAlphabet() {
+        return Alphabet.ENGLISH;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.wordle.service;
+
+import java.time.Duration;
+
+/**
+ * The progress of loading the dictionary.
+ *
+ * @param phase The current loading phase.
+ * @param words The number of words loaded, 0 until the words have been read.
+ * @param elapsed The time spent loading so far, or the total load time once loading has ended.
+ * @param error The message of the failure if loading failed, otherwise null.
+ */
+public record DictionaryStatus(Phase phase, int words, Duration elapsed, String error) {
+
+    public enum Phase {
+        NOT_STARTED, READING_WORDS, BUILDING_INDEX, READY, FAILED
+    }
+}
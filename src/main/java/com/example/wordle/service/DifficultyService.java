@@ -0,0 +1,107 @@
+package com.example.wordle.service;
+
+import com.example.wordle.handler.DifficultyCacheException;
+import com.example.wordle.model.Difficulty;
+import com.example.wordle.repository.DifficultyRepository;
+import com.example.wordle.util.ReferenceSolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how hard every dictionary word is as an answer with the {@link ReferenceSolver} and splits the words into
+ * {@link Difficulty} tiers. The measurements are cached by the content hash of the dictionary.
+ */
+@Service
+public class DifficultyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DifficultyService.class);
+
+    private final DifficultyRepository difficultyRepository;
+
+    public DifficultyService(DifficultyRepository difficultyRepository) {
+        this.difficultyRepository = difficultyRepository;
+    }
+
+    /**
+     * Gets the number of guesses the reference solver needs for every word, from the cache if the same dictionary
+     * was measured before, otherwise by running the solver on all cores.
+     *
+     * @param words The dictionary words.
+     * @return The number of guesses for each word, indexed like the words.
+     */
+    public int[] guessesToSolve(List<String> words) {
+        String hash = dictionaryHash(words);
+        if (difficultyRepository.isEnabled()) {
+            try {
+                int[] cached = difficultyRepository.load(hash, words.size());
+                if (cached != null) return cached;
+            } catch (DifficultyCacheException e) {
+                logger.warn("Difficulty cache is ignored: {}", e.getMessage());
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        int[] guesses = ReferenceSolver.guessesToSolve(words);
+        logger.info("Measured the difficulty of {} words in {} ms.", words.size(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+
+        if (difficultyRepository.isEnabled()) {
+            try {
+                difficultyRepository.save(hash, guesses);
+            } catch (DifficultyCacheException e) {
+                logger.warn("Difficulty cache could not be written: {}", e.getMessage());
+            }
+        }
+        return guesses;
+    }
+
+    /**
+     * Splits the words into tiers of nearly equal size, ordered by the number of solver guesses. Words needing the
+     * same number of guesses keep their dictionary order.
+     *
+     * @param guesses The number of solver guesses for every word.
+     * @return The word indexes of every tier, indexed by {@link Difficulty#ordinal()}.
+     */
+    public static int[][] tiers(int[] guesses) {
+        int[] ordered = IntStream.range(0, guesses.length).boxed()
+                .sorted((first, second) -> Integer.compare(guesses[first], guesses[second]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int tierCount = Difficulty.values().length;
+        int[][] tiers = new int[tierCount][];
+        for (int tier = 0; tier < tierCount; tier++) {
+            int from = (int) ((long) ordered.length * tier / tierCount);
+            int to = (int) ((long) ordered.length * (tier + 1) / tierCount);
+            tiers[tier] = Arrays.copyOfRange(ordered, from, to);
+        }
+        return tiers;
+    }
+
+    /**
+     * Hashes the words in order, so any change to the dictionary gives a different cache entry.
+     *
+     * @param words The dictionary words.
+     * @return The first 16 hex digits of the SHA-256 hash of the words.
+     */
+    static String dictionaryHash(List<String> words) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String word : words) {
+                digest.update(word.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.wordle.service;
+
+import java.time.Instant;
+
+/**
+ * Published by {@link PlayGameService} when a guess ends a game.
+ *
+ * @param playerId The id of the player's session, {@link PlayGameService#LOCAL_PLAYER_ID} for the local shell.
+ * @param answer The answer of the game.
+ * @param won True if the last guess was the answer.
+ * @param guesses The number of guesses made.
+ * @param durationMillis The time between the start of the game and the last guess.
+ * @param finishedAt The time of the last guess.
+ */
+public record GameFinishedEvent(String playerId, String answer, boolean won, int guesses, long durationMillis,
+                                Instant finishedAt) {
+}
@@ -0,0 +1,26 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.util.TimingWheel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A player's game, scheduled on the idle timing wheel of the {@link GameSessionService}. The game, the last access
+ * time and the closed flag are guarded by the session's own monitor, so sessions never wait for each other.
+ */
+@Getter
+public class GameSession extends TimingWheel.Entry {
+
+    private final String sessionId;
+    private final WordleGame game;
+    @Getter(AccessLevel.NONE)
+    long lastAccessMillis;
+    @Getter(AccessLevel.NONE)
+    boolean closed;
+
+    public GameSession(String sessionId, WordleGame game) {
+        this.sessionId = sessionId;
+        this.game = game;
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.SessionSnapshot;
+import com.example.wordle.util.TimingWheel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one game per player session. Every operation locks only its own session, so players never wait for each
+ * other. Touching a session just stamps its access time, the idle timing wheel is advanced once per tick by the
+ * eviction loop, which evicts the sessions that stayed idle and reschedules the ones touched in the meantime.
+ */
+@Service
+public class GameSessionService {
+
+    private final PlayGameService playGameService;
+    private final LongSupplier clockMillis;
+    private final long idleTtlMillis;
+    private final long tickMillis;
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    // guarded by its own monitor, which is taken before a session's monitor when both are needed
+    private final TimingWheel<GameSession> idleWheel;
+    private final AtomicLong startedSessions = new AtomicLong();
+    private final AtomicLong evictedSessions = new AtomicLong();
+    private ScheduledExecutorService evictionLoop;
+
+    @Autowired
+    public GameSessionService(PlayGameService playGameService,
+                              @Value("${wordle.session.idle-ttl:30m}") Duration idleTtl,
+                              @Value("${wordle.session.tick:1s}") Duration tick) {
+        this(playGameService, idleTtl, tick, System::currentTimeMillis);
+    }
+
+    public GameSessionService(PlayGameService playGameService, Duration idleTtl, Duration tick,
+                              LongSupplier clockMillis) {
+        this.playGameService = playGameService;
+        this.clockMillis = clockMillis;
+        this.idleTtlMillis = idleTtl.toMillis();
+        this.tickMillis = tick.toMillis();
+        this.idleWheel = new TimingWheel<>(tickMillis, idleTtlMillis, clockMillis.getAsLong());
+    }
+
+    /**
+     * Starts the eviction loop, which advances the idle timing wheel once per tick, when the application is ready.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void startEvictionLoop() {
+        if (evictionLoop != null) return;
+        evictionLoop = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionLoop.scheduleWithFixedDelay(this::evictIdle, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the eviction loop when the application shuts down.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (evictionLoop != null) evictionLoop.shutdownNow();
+        evictionLoop = null;
+    }
+
+    /**
+     * Starts a new game for the session, replacing its previous game if there was one.
+     *
+     * @param sessionId The id of the player's session.
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @return The new game.
+     */
+    public WordleGame startGame(String sessionId, boolean hardMode) {
+        GameSession session = new GameSession(sessionId, playGameService.newGame(hardMode));
+        long now = clockMillis.getAsLong();
+        session.lastAccessMillis = now;
+        synchronized (idleWheel) {
+            idleWheel.schedule(session, now, idleTtlMillis);
+        }
+
+        GameSession previous = sessions.put(sessionId, session);
+        if (previous != null) close(previous);
+        startedSessions.incrementAndGet();
+        return session.getGame();
+    }
+
+    /**
+     * Processes a guess in the session's game and resets its idle timeout. Guesses of the same session are processed
+     * one at a time, guesses of different sessions run in parallel.
+     *
+     * @param sessionId The id of the player's session.
+     * @param guess The player's guess.
+     * @return The outcome of the guess, {@link com.example.wordle.model.GuessStatus#NO_GAME} if the session has no
+     * game or it has been evicted.
+     */
+    public GuessOutcome tryAttemptGuess(String sessionId, String guess) {
+        GameSession session = sessions.get(sessionId);
+        if (session != null) {
+            synchronized (session) {
+                if (touch(session)) return playGameService.tryAttemptGuess(sessionId, session.getGame(), guess);
+            }
+        }
+        return playGameService.tryAttemptGuess(sessionId, null, guess);
+    }
+
+    /**
+     * Gets the session's game and resets its idle timeout.
+     *
+     * @param sessionId The id of the player's session.
+     * @return The game of the session, or null if there is none.
+     */
+    public WordleGame getGame(String sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) return null;
+        synchronized (session) {
+            return touch(session) ? session.getGame() : null;
+        }
+    }
+
+    /**
+     * Ends the session and frees its game.
+     *
+     * @param sessionId The id of the player's session.
+     * @return True if the session existed.
+     */
+    public boolean endSession(String sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session == null) return false;
+        close(session);
+        return true;
+    }
+
+    /**
+     * Advances the idle timing wheel to the current time. Sessions whose deadline has passed are evicted if they have
+     * not been touched since, otherwise they are rescheduled from their last access. Called by the eviction loop once
+     * per tick; a session idle for longer than the timeout is treated as gone even before its tick comes.
+     *
+     * @return The current time used for the eviction.
+     */
+    public long evictIdle() {
+        long now = clockMillis.getAsLong();
+        synchronized (idleWheel) {
+            idleWheel.advance(now, session -> expire(session, now));
+        }
+        return now;
+    }
+
+    /**
+     * Captures the games of all live sessions.
+     *
+     * @return A snapshot entry for every session that has not been evicted.
+     */
+    public List<SessionSnapshot> snapshotSessions() {
+        long now = clockMillis.getAsLong();
+        List<SessionSnapshot> snapshots = new ArrayList<>(sessions.size());
+        for (GameSession session : sessions.values()) {
+            synchronized (session) {
+                if (!session.closed && !isIdle(session, now))
+                    snapshots.add(new SessionSnapshot(session.getSessionId(), session.getGame()));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Puts restored games back into their sessions with a fresh idle timeout. Sessions started in the meantime are
+     * kept.
+     *
+     * @param snapshots The restored games, local shell games are ignored.
+     * @return The number of restored sessions.
+     */
+    public int restoreSessions(List<SessionSnapshot> snapshots) {
+        long now = clockMillis.getAsLong();
+        int restored = 0;
+        for (SessionSnapshot snapshot : snapshots) {
+            if (snapshot.isLocal()) continue;
+            GameSession session = new GameSession(snapshot.sessionId(), snapshot.game());
+            session.lastAccessMillis = now;
+            if (sessions.putIfAbsent(session.getSessionId(), session) != null) continue;
+            synchronized (idleWheel) {
+                idleWheel.schedule(session, now, idleTtlMillis);
+            }
+            restored++;
+        }
+        return restored;
+    }
+
+    /**
+     * Gets the lifecycle counters of the sessions.
+     *
+     * @return The number of live, started and evicted sessions.
+     */
+    public SessionStats getStats() {
+        return new SessionStats(sessions.size(), startedSessions.get(), evictedSessions.get());
+    }
+
+    /**
+     * @return The alphabet of the dictionary the session answers are drawn from.
+     */
+    public Alphabet getAlphabet() {
+        return playGameService.getAlphabet();
+    }
+
+    /**
+     * Stamps the access time of a live session, evicting it instead if it has been idle for too long. The caller
+     * holds the session's monitor.
+     */
+    private boolean touch(GameSession session) {
+        if (session.closed) return false;
+        long now = clockMillis.getAsLong();
+        if (isIdle(session, now)) {
+            evict(session);
+            return false;
+        }
+        session.lastAccessMillis = now;
+        return true;
+    }
+
+    /**
+     * Handles a session whose deadline has passed on the wheel. The caller holds the wheel's monitor.
+     */
+    private void expire(GameSession session, long now) {
+        synchronized (session) {
+            if (session.closed) return;
+            if (isIdle(session, now)) evict(session);
+            else idleWheel.schedule(session, session.lastAccessMillis, idleTtlMillis);
+        }
+    }
+
+    private boolean isIdle(GameSession session, long now) {
+        return now - session.lastAccessMillis >= idleTtlMillis;
+    }
+
+    private void evict(GameSession session) {
+        session.closed = true;
+        if (sessions.remove(session.getSessionId(), session)) evictedSessions.incrementAndGet();
+    }
+
+    private void close(GameSession session) {
+        synchronized (session) {
+            session.closed = true;
+        }
+        synchronized (idleWheel) {
+            idleWheel.cancel(session);
+        }
+    }
+}
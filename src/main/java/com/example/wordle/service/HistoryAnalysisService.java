@@ -0,0 +1,146 @@
+package com.example.wordle.service;
+
+import com.example.wordle.handler.HistoryIOException;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.util.HistoryAccumulator;
+import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Analyzes game history files of any size. The file is read in chunks of lines which are scored in parallel, every
+ * worker into its own {@link HistoryAccumulator}, and the accumulators are merged at the end. Only a few chunks are
+ * in flight at a time, so memory stays proportional to the dictionary instead of the file.
+ */
+@Service
+public class HistoryAnalysisService {
+
+    static final int CHUNK_LINES = 4096;
+
+    private final PlayGameService playGameService;
+
+    public HistoryAnalysisService(PlayGameService playGameService) {
+        this.playGameService = playGameService;
+    }
+
+    /**
+     * Analyzes a history file with one game per line: the answer followed by the guesses, see
+     * {@link HistoryAccumulator#accept(String)}.
+     *
+     * @param historyFile The path of the history file.
+     * @return The statistics of the games.
+     * @throws HistoryIOException If the file cannot be read.
+     */
+    public HistoryReport analyze(Path historyFile) {
+        List<String> words = playGameService.getWordList();
+        Alphabet alphabet = playGameService.getAlphabet();
+        Map<String, Integer> wordIndexes = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) wordIndexes.putIfAbsent(words.get(i), i);
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        BlockingQueue<HistoryAccumulator> accumulators = new ArrayBlockingQueue<>(workers);
+        for (int i = 0; i < workers; i++) accumulators.add(new HistoryAccumulator(words, wordIndexes, alphabet));
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore chunksInFlight = new Semaphore(2 * workers);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try (BufferedReader reader = Files.newBufferedReader(historyFile, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(CHUNK_LINES);
+            String line;
+            while ((line = reader.readLine()) != null && failure.get() == null) {
+                chunk.add(line);
+                if (chunk.size() == CHUNK_LINES) {
+                    submit(executor, chunksInFlight, accumulators, chunk, failure);
+                    chunk = new ArrayList<>(CHUNK_LINES);
+                }
+            }
+            if (!chunk.isEmpty()) submit(executor, chunksInFlight, accumulators, chunk, failure);
+        } catch (IOException e) {
+            throw new HistoryIOException("Error reading game history: " + historyFile, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HistoryIOException("Game history analysis was interrupted: " + historyFile, e);
+        } finally {
+            awaitShutdown(executor);
+        }
+        if (failure.get() != null) throw failure.get();
+
+        HistoryAccumulator total = accumulators.poll();
+        for (HistoryAccumulator accumulator : accumulators) total.merge(accumulator);
+        return report(words, total);
+    }
+
+    private static void submit(ExecutorService executor, Semaphore chunksInFlight,
+                               BlockingQueue<HistoryAccumulator> accumulators, List<String> chunk,
+                               AtomicReference<RuntimeException> failure) throws InterruptedException {
+        chunksInFlight.acquire();
+        executor.execute(() -> {
+            // never more chunks run than there are workers, so an accumulator is always free
+            HistoryAccumulator accumulator = accumulators.poll();
+            try {
+                for (String line : chunk) accumulator.accept(line);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                accumulators.add(accumulator);
+                chunksInFlight.release();
+            }
+        });
+    }
+
+    private static void awaitShutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HistoryReport report(List<String> words, HistoryAccumulator total) {
+        List<WordHistory> wordHistories = new ArrayList<>();
+        long games = 0;
+        long wins = 0;
+        long scoredGuesses = 0;
+        double skill = 0;
+        double luck = 0;
+        for (int i = 0; i < words.size(); i++) {
+            long wordGames = total.games(i);
+            if (wordGames == 0) continue;
+
+            long wordWins = total.wins(i);
+            long wordGuesses = total.scoredGuesses(i);
+            wordHistories.add(new WordHistory(words.get(i), wordGames, wordWins,
+                    average(total.solvedGuesses(i), wordWins), average(total.skill(i), wordGuesses),
+                    average(total.luck(i), wordGuesses)));
+            games += wordGames;
+            wins += wordWins;
+            scoredGuesses += wordGuesses;
+            skill += total.skill(i);
+            luck += total.luck(i);
+        }
+        wordHistories.sort(Comparator.comparingLong(WordHistory::games).reversed());
+        return new HistoryReport(games, wins, total.skippedLines(), average(skill, scoredGuesses),
+                average(luck, scoredGuesses), List.copyOf(wordHistories));
+    }
+
+    private static double average(double sum, long count) {
+        return count == 0 ? 0 : sum / count;
+    }
+}
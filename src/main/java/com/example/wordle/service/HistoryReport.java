@@ -0,0 +1,17 @@
+package com.example.wordle.service;
+
+import java.util.List;
+
+/**
+ * The result of analyzing a game history file.
+ *
+ * @param games The number of analyzed games.
+ * @param wins The number of won games.
+ * @param skippedLines The number of lines skipped because they were not valid game records.
+ * @param averageSkill The average skill per guess over all the games, in bits.
+ * @param averageLuck The average luck per guess over all the games, in bits.
+ * @param words The statistics of every answer that occurred, most played first.
+ */
+public record HistoryReport(long games, long wins, long skippedLines, double averageSkill, double averageLuck,
+                            List<WordHistory> words) {
+}
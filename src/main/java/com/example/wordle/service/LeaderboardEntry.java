@@ -0,0 +1,15 @@
+package com.example.wordle.service;
+
+import java.time.Instant;
+
+/**
+ * A won game on a leaderboard.
+ *
+ * @param playerId The id of the player who won.
+ * @param answer The answer of the game.
+ * @param guesses The number of guesses it took, fewer ranks higher.
+ * @param durationMillis The time it took, shorter ranks higher among equal guesses.
+ * @param finishedAt The time the game was won, earlier ranks higher among equal guesses and times.
+ */
+public record LeaderboardEntry(String playerId, String answer, int guesses, long durationMillis, Instant finishedAt) {
+}
@@ -0,0 +1,152 @@
+package com.example.wordle.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a global leaderboard and one per UTC day of the won games, ranked by fewest guesses and then fastest time.
+ * Every board publishes an immutable ranked snapshot that writers replace by compare-and-set, so finishes recorded
+ * from many threads do not wait on a shared lock and a reader always sees one consistent ranking.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingInt((Ranked ranked) -> ranked.entry().guesses())
+            .thenComparingLong(ranked -> ranked.entry().durationMillis())
+            .thenComparing(ranked -> ranked.entry().finishedAt())
+            .thenComparingLong(Ranked::sequence);
+
+    private final int capacity;
+    private final int retentionDays;
+    private final Clock clock;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Board global;
+    private final ConcurrentMap<LocalDate, Board> daily = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LeaderboardService(@Value("${wordle.leaderboard.capacity:100}") int capacity,
+                              @Value("${wordle.leaderboard.retention-days:7}") int retentionDays) {
+        this(capacity, retentionDays, Clock.systemUTC());
+    }
+
+    public LeaderboardService(int capacity, int retentionDays, Clock clock) {
+        if (capacity <= 0) throw new IllegalArgumentException("Leaderboard capacity must be positive!\n");
+        if (retentionDays <= 0) throw new IllegalArgumentException("Leaderboard retention must be positive!\n");
+        this.capacity = capacity;
+        this.retentionDays = retentionDays;
+        this.clock = clock;
+        this.global = new Board(capacity);
+    }
+
+    /**
+     * Records a won game on the global board and on the board of the day it was won. Lost games are ignored.
+     *
+     * @param event The finished game.
+     */
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        if (!event.won()) return;
+
+        Ranked ranked = new Ranked(new LeaderboardEntry(event.playerId(), event.answer(), event.guesses(),
+                event.durationMillis(), event.finishedAt()), sequence.getAndIncrement());
+        global.offer(ranked);
+
+        LocalDate day = LocalDate.ofInstant(event.finishedAt(), ZoneOffset.UTC);
+        if (day.isBefore(oldestRetainedDay())) return;
+        Board board = daily.get(day);
+        if (board == null) {
+            board = daily.computeIfAbsent(day, key -> new Board(capacity));
+            pruneDaily();
+        }
+        board.offer(ranked);
+    }
+
+    /**
+     * Returns the best entries of all time.
+     *
+     * @param n The maximum number of entries to return.
+     * @return At most n entries, best first.
+     */
+    public List<LeaderboardEntry> top(int n) {
+        return global.top(n);
+    }
+
+    /**
+     * Returns the best entries of the current UTC day.
+     *
+     * @param n The maximum number of entries to return.
+     * @return At most n entries, best first, empty if nobody has won today.
+     */
+    public List<LeaderboardEntry> topToday(int n) {
+        Board board = daily.get(LocalDate.now(clock.withZone(ZoneOffset.UTC)));
+        return board == null ? List.of() : board.top(n);
+    }
+
+    private LocalDate oldestRetainedDay() {
+        return LocalDate.now(clock.withZone(ZoneOffset.UTC)).minusDays(retentionDays - 1L);
+    }
+
+    private void pruneDaily() {
+        LocalDate oldest = oldestRetainedDay();
+        daily.keySet().removeIf(day -> day.isBefore(oldest));
+    }
+
+    private record Ranked(LeaderboardEntry entry, long sequence) {
+    }
+
+    /**
+     * A ranked array of at most capacity entries, copied on write and published through an atomic reference. A
+     * snapshot is never changed once published, so it is always ordered and within capacity. Once the board is full,
+     * entries that rank below its last entry are rejected without copying, which is the common case for a busy board.
+     */
+    private static final class Board {
+
+        private static final Ranked[] EMPTY = new Ranked[0];
+
+        private final int capacity;
+        private final AtomicReference<Ranked[]> ranking = new AtomicReference<>(EMPTY);
+
+        Board(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(Ranked ranked) {
+            while (true) {
+                Ranked[] current = ranking.get();
+                if (current.length >= capacity && RANKING.compare(ranked, current[current.length - 1]) > 0) return;
+
+                // sequences are unique, so the entry is never found and the search returns its insertion point
+                int position = -Arrays.binarySearch(current, ranked, RANKING) - 1;
+                Ranked[] next = new Ranked[Math.min(current.length + 1, capacity)];
+                System.arraycopy(current, 0, next, 0, position);
+                next[position] = ranked;
+                System.arraycopy(current, position, next, position + 1, next.length - position - 1);
+                if (ranking.compareAndSet(current, next)) return;
+            }
+        }
+
+        /**
+         * Copies the first n entries of the current snapshot.
+         */
+        List<LeaderboardEntry> top(int n) {
+            Ranked[] snapshot = ranking.get();
+            List<LeaderboardEntry> result = new ArrayList<>(Math.min(Math.max(n, 0), snapshot.length));
+            for (int i = 0; i < snapshot.length && i < n; i++) result.add(snapshot[i].entry());
+            return List.copyOf(result);
+        }
+    }
+}
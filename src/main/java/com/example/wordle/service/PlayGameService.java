@@ -1,52 +1,320 @@
 package com.example.wordle.service;
 
 import com.example.wordle.handler.EmptyWordListException;
+import com.example.wordle.handler.NoGameStartedException;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.Difficulty;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessScorer;
+import com.example.wordle.model.GuessStatus;
 import com.example.wordle.model.LetterResult;
+import com.example.wordle.model.WeightedWord;
 import com.example.wordle.model.WordleGame;
 import com.example.wordle.repository.WordRepository;
+import com.example.wordle.util.AliasTable;
+import com.example.wordle.util.WordIndex;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class PlayGameService {
 
+    public static final String LOCAL_PLAYER_ID = "local";
+
     private final WordRepository wordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DifficultyService difficultyService;
     private final Random random = new Random();
-    private List<String> wordList;
-    private boolean triedLoading;
+    private volatile CompletableFuture<LoadedWords> loading;
+    private volatile DictionaryStatus.Phase loadPhase = DictionaryStatus.Phase.NOT_STARTED;
+    private volatile int loadedWordCount;
+    private volatile long loadStartedNanos;
+    private volatile long loadEndedNanos;
+    private volatile Throwable loadFailure;
+    private volatile CompletableFuture<Tiers> tiers;
     @Getter
     private WordleGame currentGame;
 
     public PlayGameService(WordRepository wordRepository){
+        this(wordRepository, event -> {});
+    }
+
+    /**
+     * Creates the service without difficulty tiers, drawing an answer of a given difficulty then fails.
+     */
+    public PlayGameService(WordRepository wordRepository, ApplicationEventPublisher eventPublisher){
+        this(wordRepository, eventPublisher, null);
+    }
+
+    @Autowired
+    public PlayGameService(WordRepository wordRepository, ApplicationEventPublisher eventPublisher,
+                           DifficultyService difficultyService){
         this.wordRepository = wordRepository;
+        this.eventPublisher = eventPublisher;
+        this.difficultyService = difficultyService;
     }
 
     /**
-     * Lazy loads the word list from the repository on the first invocation. If the word list is empty, invalid or
-     * cannot be loaded for any reason, this method throws an exception.
+     * Starts loading the word list on a virtual thread as soon as the application context is ready, so that loading
+     * overlaps with the shell starting up and the first game only waits if the dictionary is still loading.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void preloadWordList() {
+        startLoading(true);
+    }
+
+    /**
+     * Gets a future that completes once the word list is loaded and indexed, starting a background load if loading
+     * has not started yet.
+     *
+     * @return The readiness future, completed exceptionally if the word list cannot be loaded.
+     */
+    public CompletableFuture<Void> getReadiness() {
+        return startLoading(true).thenRun(() -> {});
+    }
+
+    /**
+     * Reports the progress of loading the word list.
+     *
+     * @return The current loading phase, the number of loaded words and the time spent loading.
+     */
+    public DictionaryStatus getDictionaryStatus() {
+        DictionaryStatus.Phase phase = loadPhase;
+        if (phase == DictionaryStatus.Phase.NOT_STARTED) return new DictionaryStatus(phase, 0, Duration.ZERO, null);
+
+        long endNanos = phase == DictionaryStatus.Phase.READY || phase == DictionaryStatus.Phase.FAILED
+                ? loadEndedNanos : System.nanoTime();
+        String error = null;
+        if (phase == DictionaryStatus.Phase.FAILED) {
+            Throwable failure = loadFailure;
+            error = failure.getMessage() != null ? failure.getMessage().strip() : failure.getClass().getSimpleName();
+        }
+        return new DictionaryStatus(phase, loadedWordCount, Duration.ofNanos(endNanos - loadStartedNanos), error);
+    }
+
+    /**
+     * Makes sure the word list is loaded, loading it in the calling thread if no background load has been started and
+     * waiting for the background load otherwise. The search index and the frequency-weighted answer sampler are built
+     * together with the word list. If the word list is empty, invalid or cannot be loaded for any reason, this method
+     * throws the load failure on every call.
      *
      * @throws EmptyWordListException if the word list cannot be loaded for any reason
      */
     public void checkWordListLoaded(){
-        if (!triedLoading) {
-            triedLoading = true;
-            wordList = List.copyOf(wordRepository.loadWords());
+        loadedWords();
+    }
+
+    private LoadedWords loadedWords() {
+        return join(startLoading(false));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    private CompletableFuture<LoadedWords> startLoading(boolean background) {
+        CompletableFuture<LoadedWords> current = loading;
+        if (current != null) return current;
+
+        CompletableFuture<LoadedWords> future;
+        synchronized (this) {
+            if (loading != null) return loading;
+            future = new CompletableFuture<>();
+            loadStartedNanos = System.nanoTime();
+            loadPhase = DictionaryStatus.Phase.READING_WORDS;
+            loading = future;
         }
 
-        if (wordList == null || wordList.isEmpty()) throw new EmptyWordListException("Word list is empty, contains" +
+        // the status is final before the future completes, so anyone who joined it sees READY or FAILED
+        Runnable load = () -> {
+            try {
+                LoadedWords words = loadWords();
+                loadEndedNanos = System.nanoTime();
+                loadPhase = DictionaryStatus.Phase.READY;
+                future.complete(words);
+            } catch (Throwable e) {
+                loadEndedNanos = System.nanoTime();
+                loadFailure = e;
+                loadPhase = DictionaryStatus.Phase.FAILED;
+                future.completeExceptionally(e);
+            }
+        };
+        if (background) Thread.ofVirtual().name("dictionary-preload").start(load);
+        else load.run();
+        return future;
+    }
+
+    private LoadedWords loadWords() {
+        List<WeightedWord> weightedWords = List.copyOf(wordRepository.loadWeightedWords());
+        if (weightedWords.isEmpty()) throw new EmptyWordListException("Word list is empty, contains " +
                 "only invalid words, or could not be loaded.");
+
+        loadedWordCount = weightedWords.size();
+        loadPhase = DictionaryStatus.Phase.BUILDING_INDEX;
+        List<String> wordList = weightedWords.stream().map(WeightedWord::word).toList();
+        double[] answerWeights = weightedWords.stream().mapToDouble(WeightedWord::weight).toArray();
+        return new LoadedWords(wordList, answerWeights, new AliasTable(answerWeights),
+                new WordIndex(wordList, WordleGame.MAX_LETTERS, wordRepository.getAlphabet()));
     }
 
     /**
-     * Selects a random word for the correct answer and starts the game initializing with this word.
+     * Selects a random word for the correct answer, weighted by its frequency, and starts the game initializing with
+     * this word.
      */
     public void startGame() {
-        checkWordListLoaded();
-        String answerWord = wordList.get(random.nextInt(wordList.size()));
-        currentGame = new WordleGame(answerWord);
+        startGame(false);
+    }
+
+    /**
+     * Starts a new game like {@link #startGame()}, optionally in hard mode.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     */
+    public void startGame(boolean hardMode) {
+        startGame(hardMode, null);
+    }
+
+    /**
+     * Starts a new game like {@link #startGame(boolean)} with an answer drawn from a difficulty tier.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @param difficulty The difficulty tier of the answer, or null for any word.
+     */
+    public void startGame(boolean hardMode, Difficulty difficulty) {
+        currentGame = newGame(hardMode, difficulty);
+    }
+
+    /**
+     * Makes a previously saved game the current game, e.g. after a restart.
+     *
+     * @param game The restored game.
+     */
+    public void restoreGame(WordleGame game) {
+        currentGame = game;
+    }
+
+    /**
+     * Creates a game with a random, frequency-weighted answer without making it the current game.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @return The new game.
+     */
+    public WordleGame newGame(boolean hardMode) {
+        return newGame(hardMode, null);
+    }
+
+    /**
+     * Creates a game like {@link #newGame(boolean)} with an answer drawn from a difficulty tier.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @param difficulty The difficulty tier of the answer, or null for any word.
+     * @return The new game.
+     */
+    public WordleGame newGame(boolean hardMode, Difficulty difficulty) {
+        String answer = difficulty == null ? drawAnswer() : drawAnswer(difficulty);
+        return new WordleGame(answer, hardMode, System.currentTimeMillis(), wordRepository.getAlphabet());
+    }
+
+    /**
+     * Draws a random, frequency-weighted answer from the word list.
+     *
+     * @return The drawn word.
+     */
+    public String drawAnswer() {
+        LoadedWords words = loadedWords();
+        return words.wordList().get(words.answerSampler().sample(random));
+    }
+
+    /**
+     * Draws a random, frequency-weighted answer from a difficulty tier. The tiers are measured once, by the first
+     * caller while concurrent callers wait for it, and every draw after that costs O(1).
+     *
+     * @param difficulty The difficulty tier of the answer.
+     * @return The drawn word.
+     * @throws IllegalStateException If the service was created without a {@link DifficultyService}.
+     */
+    public String drawAnswer(Difficulty difficulty) {
+        LoadedWords loaded = loadedWords();
+        Tiers built = join(buildTiers(loaded));
+        int[] words = built.words()[difficulty.ordinal()];
+        if (words.length == 0) return drawAnswer();
+        return loaded.wordList().get(words[built.samplers()[difficulty.ordinal()].sample(random)]);
+    }
+
+    private CompletableFuture<Tiers> buildTiers(LoadedWords loaded) {
+        CompletableFuture<Tiers> current = tiers;
+        if (current != null) return current;
+        if (difficultyService == null)
+            throw new IllegalStateException("Difficulty tiers are not available without a difficulty service!\n");
+
+        CompletableFuture<Tiers> future;
+        synchronized (this) {
+            if (tiers != null) return tiers;
+            future = new CompletableFuture<>();
+            tiers = future;
+        }
+
+        try {
+            int[][] tierWords = DifficultyService.tiers(difficultyService.guessesToSolve(loaded.wordList()));
+            AliasTable[] samplers = new AliasTable[tierWords.length];
+            for (int tier = 0; tier < tierWords.length; tier++) {
+                if (tierWords[tier].length == 0) continue;
+                double[] weights = new double[tierWords[tier].length];
+                for (int i = 0; i < weights.length; i++) weights[i] = loaded.answerWeights()[tierWords[tier][i]];
+                samplers[tier] = new AliasTable(weights);
+            }
+            future.complete(new Tiers(tierWords, samplers));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Gets the dictionary, loading it on the first invocation.
+     *
+     * @return The unmodifiable list of the dictionary words.
+     */
+    public List<String> getWordList() {
+        return loadedWords().wordList();
+    }
+
+    /**
+     * Gets the alphabet of the dictionary, used for case folding and letter indexing.
+     *
+     * @return The alphabet of the word repository.
+     */
+    public Alphabet getAlphabet() {
+        return wordRepository.getAlphabet();
+    }
+
+    /**
+     * Searches the word list for words matching a pattern and letter constraints.
+     *
+     * @param pattern The known letters at their positions and '?' elsewhere, e.g. "?a??e".
+     * @param included Letters the word must contain, repeated letters must appear at least that many times.
+     * @param excluded Letters the word must not contain.
+     * @return The matching words in dictionary order.
+     * @throws IllegalArgumentException If the pattern or the letters are invalid.
+     */
+    public List<String> searchWords(String pattern, String included, String excluded) {
+        return loadedWords().wordIndex().search(pattern, included, excluded);
     }
 
     /**
@@ -55,14 +323,49 @@ public class PlayGameService {
      * @param guess The player's guess in the current round.
      * @return List of LetterResult feedback for all the letters in the guess.
      * @throws IllegalStateException If there is no active game.
+     * @throws NoGameStartedException If the current game is already over.
+     * @throws IllegalArgumentException If the guess is invalid or already guessed.
      */
     public List<LetterResult> attemptGuess(String guess) {
-        if (currentGame == null) {
-            throw new IllegalStateException("No game started! Type 'start' to begin.");
-        }
+        GuessOutcome outcome = tryAttemptGuess(guess);
+        if (!outcome.isAccepted()) throw outcome.status().toException();
+        return outcome.feedback();
+    }
 
-        currentGame.attempt(guess);
-        return evaluateAnswer(currentGame.getAnswer(), guess);
+    /**
+     * Processes the user's guess for the current round in the game, reporting routine mistakes such as an invalid or
+     * repeated guess, a finished game or a missing game as a status instead of an exception.
+     *
+     * @param guess The player's guess in the current round.
+     * @return The outcome holding the status and, for accepted guesses, the feedback for all the letters.
+     */
+    public GuessOutcome tryAttemptGuess(String guess) {
+        return tryAttemptGuess(LOCAL_PLAYER_ID, currentGame, guess);
+    }
+
+    /**
+     * Processes a guess in the given game, see {@link #tryAttemptGuess(String)}. A guess that ends the game publishes
+     * a {@link GameFinishedEvent}.
+     *
+     * @param playerId The id of the player making the guess.
+     * @param game The game to guess in, or null if the player has no game.
+     * @param guess The player's guess.
+     * @return The outcome holding the status and, for accepted guesses, the feedback for all the letters.
+     */
+    public GuessOutcome tryAttemptGuess(String playerId, WordleGame game, String guess) {
+        if (game == null) return GuessOutcome.rejected(GuessStatus.NO_GAME);
+
+        GuessStatus status = game.tryAttempt(guess);
+        if (status != GuessStatus.ACCEPTED) return GuessOutcome.rejected(status);
+
+        int feedback = game.getLastFeedback();
+        if (game.isFinished()) {
+            Instant finishedAt = Instant.now();
+            eventPublisher.publishEvent(new GameFinishedEvent(playerId, game.getAnswer(),
+                    feedback == GuessScorer.ALL_CORRECT, game.getPreviousAttempts().size(),
+                    finishedAt.toEpochMilli() - game.getStartedAtMillis(), finishedAt));
+        }
+        return new GuessOutcome(status, GuessScorer.toList(feedback, game.getAnswer().length()));
     }
 
     /**
@@ -73,40 +376,9 @@ public class PlayGameService {
      * @return List of LetterResult for all the letters in the guess.
      */
     public List<LetterResult> evaluateAnswer(String answer, String guess) {
-        final int ANSWER_LEN = answer.length();
-        answer = answer.toLowerCase();
-        guess = guess.toLowerCase();
-
-        char[] guessArr = guess.toCharArray();
-        char[] answerArr = answer.toCharArray();
-        LetterResult[] results = new LetterResult[ANSWER_LEN];
-        boolean[] used = new boolean[ANSWER_LEN];
-
-        // highlight the correct letter
-        IntStream.range(0, ANSWER_LEN)
-                .filter(letterPos -> guessArr[letterPos] == answerArr[letterPos])
-                .forEach(letterPos -> {
-                    results[letterPos] = LetterResult.CORRECT;
-                    used[letterPos] = true;
-                });
-
-        // highlight the present and absent letters
-        IntStream.range(0, ANSWER_LEN).forEach(guessPos -> {
-            if (results[guessPos] != null) return;
-            IntStream.range(0, ANSWER_LEN)
-                    .filter(answerPos -> !used[answerPos] && guessArr[guessPos] == answerArr[answerPos] &&
-                            guessPos != answerPos)
-                    .findFirst()
-                    .ifPresentOrElse(
-                            idx -> {
-                                results[guessPos] = LetterResult.PRESENT;
-                                used[idx] = true;
-                            },
-                            () -> results[guessPos] = LetterResult.ABSENT
-                    );
-        });
-
-        return List.of(results);
+        answer = getAlphabet().fold(answer);
+        guess = getAlphabet().fold(guess);
+        return GuessScorer.toList(GuessScorer.score(answer, guess), answer.length());
     }
 
     /**
@@ -137,4 +409,12 @@ public class PlayGameService {
     public int getRemainingAttempts() {
         return currentGame != null ? currentGame.getRemainingAttempts() : 0;
     }
+
+    private record LoadedWords(List<String> wordList, double[] answerWeights, AliasTable answerSampler,
+                               WordIndex wordIndex) {
+    }
+
+    // the word indexes of every difficulty tier and their frequency-weighted samplers, indexed by Difficulty#ordinal
+    private record Tiers(int[][] words, AliasTable[] samplers) {
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.wordle.service;
+
+import com.example.wordle.handler.SessionSnapshotException;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.SessionSnapshot;
+import com.example.wordle.repository.SessionSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class SessionSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionSnapshotService.class);
+
+    private final SessionSnapshotRepository snapshotRepository;
+    private final GameSessionService gameSessionService;
+    private final PlayGameService playGameService;
+    private final AtomicBoolean restored = new AtomicBoolean();
+
+    public SessionSnapshotService(SessionSnapshotRepository snapshotRepository, GameSessionService gameSessionService,
+                                  PlayGameService playGameService) {
+        this.snapshotRepository = snapshotRepository;
+        this.gameSessionService = gameSessionService;
+        this.playGameService = playGameService;
+    }
+
+    /**
+     * Restores the games of the last snapshot once the application context is ready, if snapshots are enabled.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void restoreOnStartup() {
+        if (!snapshotRepository.isEnabled() || !restored.compareAndSet(false, true)) return;
+        try {
+            restore();
+        } catch (SessionSnapshotException e) {
+            logger.error("Session snapshot could not be restored: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes every live game into the snapshot when the application shuts down, if snapshots are enabled.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void snapshotOnShutdown() {
+        if (!snapshotRepository.isEnabled()) return;
+        try {
+            snapshot();
+        } catch (SessionSnapshotException e) {
+            logger.error("Session snapshot could not be written: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the games of all live sessions and the unfinished game of the local shell into the snapshot.
+     *
+     * @return The number of stored games.
+     */
+    public int snapshot() {
+        List<SessionSnapshot> snapshots = new ArrayList<>(gameSessionService.snapshotSessions());
+        WordleGame localGame = playGameService.getCurrentGame();
+        if (localGame != null && !localGame.isFinished()) snapshots.add(new SessionSnapshot(null, localGame));
+
+        int stored = snapshotRepository.save(snapshots);
+        logger.info("Stored {} games in the session snapshot.", stored);
+        return stored;
+    }
+
+    /**
+     * Restores the games of the snapshot into their sessions and the local shell.
+     *
+     * @return The number of restored games.
+     */
+    public int restore() {
+        long startNanos = System.nanoTime();
+        List<SessionSnapshot> snapshots = snapshotRepository.load();
+
+        int restoredGames = gameSessionService.restoreSessions(snapshots);
+        for (SessionSnapshot snapshot : snapshots) {
+            if (snapshot.isLocal() && playGameService.getCurrentGame() == null) {
+                playGameService.restoreGame(snapshot.game());
+                restoredGames++;
+            }
+        }
+
+        logger.info("Restored {} games from the session snapshot in {} ms.", restoredGames,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return restoredGames;
+    }
+}
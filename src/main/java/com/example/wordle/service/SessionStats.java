@@ -0,0 +1,11 @@
+package com.example.wordle.service;
+
+/**
+ * Counters of the session lifecycle.
+ *
+ * @param liveSessions The number of sessions currently held.
+ * @param startedSessions The number of sessions started since startup.
+ * @param evictedSessions The number of sessions removed after being idle for too long.
+ */
+public record SessionStats(int liveSessions, long startedSessions, long evictedSessions) {
+}
@@ -0,0 +1,295 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.AnswerProfile;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessScorer;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.WordleGame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a tournament in which every player guesses the same answer. The answer is drawn once and prepared as a shared
+ * {@link AnswerProfile}. Guesses are queued by the players and scored in batches by a single scoring loop once per
+ * tick, which also merges the changed standings into the published ranking and offers them to a bounded update queue.
+ * When consumers fall behind, the oldest updates are dropped instead of blocking the scoring loop.
+ */
+@Service
+public class TournamentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TournamentService.class);
+    private static final Comparator<TournamentStanding> RANKING = Comparator
+            .comparing(TournamentStanding::solved).reversed()
+            .thenComparingInt(TournamentStanding::guesses)
+            .thenComparingLong(TournamentStanding::sequence)
+            .thenComparing(TournamentStanding::playerId);
+
+    private final PlayGameService playGameService;
+    private final long tickMillis;
+    private final BlockingQueue<TournamentStanding> updates;
+    private final AtomicLong droppedUpdates = new AtomicLong();
+    private final ConcurrentLinkedQueue<PendingGuess> inbox = new ConcurrentLinkedQueue<>();
+    // guarded by scoringLock, taken by the scoring loop, by anyone scoring a batch by hand and to switch tournaments
+    private final Object scoringLock = new Object();
+    private final List<PendingGuess> batch = new ArrayList<>();
+    private long sequence;
+    private volatile Tournament tournament;
+    private ScheduledExecutorService scoringLoop;
+
+    /**
+     * Creates the service. A zero tick disables the scoring loop, queued guesses are then only scored and ranked by
+     * calling {@link #scoreBatch()}.
+     *
+     * @param playGameService The service drawing the answers.
+     * @param tick The time between two scoring batches.
+     * @param updateCapacity The number of standing updates kept for consumers.
+     */
+    public TournamentService(PlayGameService playGameService,
+                             @Value("${wordle.tournament.tick:100ms}") Duration tick,
+                             @Value("${wordle.tournament.update-capacity:1024}") int updateCapacity) {
+        this.playGameService = playGameService;
+        this.tickMillis = tick.toMillis();
+        this.updates = new ArrayBlockingQueue<>(updateCapacity);
+    }
+
+    /**
+     * Starts a new tournament with a freshly drawn answer, replacing the previous one. Guesses still queued for the
+     * previous tournament are scored against it, but their standings are no longer published as updates. The switch
+     * waits for a running scoring batch, so the update queue only ever holds standings of the new tournament.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     */
+    public synchronized void startTournament(boolean hardMode) {
+        Tournament next = new Tournament(new AnswerProfile(playGameService.drawAnswer()), hardMode,
+                playGameService.getAlphabet());
+        synchronized (scoringLock) {
+            tournament = next;
+            updates.clear();
+            droppedUpdates.set(0);
+        }
+        if (scoringLoop == null && tickMillis > 0) {
+            scoringLoop = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "tournament-scoring");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scoringLoop.scheduleWithFixedDelay(this::scoreBatch, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the scoring loop when the application shuts down.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (scoringLoop != null) scoringLoop.shutdownNow();
+        scoringLoop = null;
+    }
+
+    /**
+     * Adds a player to the current tournament. Joining again keeps the player's game.
+     *
+     * @param playerId The id of the player.
+     * @return False if no tournament has been started.
+     */
+    public boolean join(String playerId) {
+        Tournament current = tournament;
+        if (current == null) return false;
+        WordleGame game = new WordleGame(current.profile, current.hardMode, current.alphabet);
+        if (current.games.putIfAbsent(playerId, game) == null)
+            current.joined.add(new TournamentStanding(playerId, 0, false, false, Long.MAX_VALUE));
+        return true;
+    }
+
+    /**
+     * Queues a guess of a player for the next scoring batch.
+     *
+     * @param playerId The id of the player.
+     * @param guess The player's guess.
+     * @return The outcome of the guess once its batch is scored, {@link GuessStatus#NO_GAME} if no tournament has
+     * been started or the player has not joined it.
+     */
+    public CompletableFuture<GuessOutcome> submitGuess(String playerId, String guess) {
+        Tournament current = tournament;
+        if (current == null) return CompletableFuture.completedFuture(GuessOutcome.rejected(GuessStatus.NO_GAME));
+
+        PendingGuess pending = new PendingGuess(current, playerId, guess, new CompletableFuture<>());
+        inbox.add(pending);
+        return pending.outcome();
+    }
+
+    /**
+     * Scores every guess queued since the last batch, then publishes the new ranking and the changed standings. The
+     * scoring loop calls it once per tick; other callers, such as a service without a loop, wait for a running batch
+     * to finish, so batches never overlap.
+     *
+     * @return The number of guesses taken from the queue.
+     */
+    public int scoreBatch() {
+        synchronized (scoringLock) {
+            PendingGuess pending;
+            while ((pending = inbox.poll()) != null) batch.add(pending);
+            // joins are taken after the guesses, so every player guessing in this batch has been added already
+            Tournament current = tournament;
+            if (current != null) current.takeJoined();
+
+            for (PendingGuess guess : batch) {
+                try {
+                    guess.outcome().complete(score(guess));
+                } catch (RuntimeException e) {
+                    logger.error("Tournament guess could not be scored: {}", e.getMessage());
+                    guess.outcome().completeExceptionally(e);
+                }
+            }
+            for (PendingGuess guess : batch) guess.tournament().publishRanking();
+            if (current != null) current.publishRanking();
+
+            int scored = batch.size();
+            batch.clear();
+            return scored;
+        }
+    }
+
+    /**
+     * Ranks the players of the current tournament: solvers first by fewest guesses and then by who solved first,
+     * followed by everyone else by fewest guesses. The ranking is read from the one published by the last scoring
+     * batch, so players who joined or guessed since then are shown after the next tick.
+     *
+     * @param n The maximum number of players to return.
+     * @return At most n standings, best first.
+     */
+    public List<TournamentStanding> standings(int n) {
+        Tournament current = tournament;
+        if (current == null) return List.of();
+        List<TournamentStanding> ranking = current.ranking;
+        return List.copyOf(ranking.subList(0, Math.min(Math.max(n, 0), ranking.size())));
+    }
+
+    /**
+     * Takes the standing updates published since the last call, oldest first.
+     *
+     * @param max The maximum number of updates to take.
+     * @return The taken updates.
+     */
+    public List<TournamentStanding> pollUpdates(int max) {
+        List<TournamentStanding> taken = new ArrayList<>();
+        updates.drainTo(taken, max);
+        return taken;
+    }
+
+    /**
+     * @return The number of standing updates of the current tournament dropped because consumers did not keep up.
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates.get();
+    }
+
+    /**
+     * @return True if a tournament has been started.
+     */
+    public boolean isRunning() {
+        return tournament != null;
+    }
+
+    /**
+     * @return The alphabet of the dictionary the tournament answers are drawn from.
+     */
+    public Alphabet getAlphabet() {
+        return playGameService.getAlphabet();
+    }
+
+    private GuessOutcome score(PendingGuess pending) {
+        WordleGame game = pending.tournament().games.get(pending.playerId());
+        if (game == null) return GuessOutcome.rejected(GuessStatus.NO_GAME);
+
+        GuessStatus status = game.tryAttempt(pending.guess());
+        if (status != GuessStatus.ACCEPTED) return GuessOutcome.rejected(status);
+
+        boolean solved = game.getLastFeedback() == GuessScorer.ALL_CORRECT;
+        TournamentStanding standing = new TournamentStanding(pending.playerId(), game.getPreviousAttempts().size(),
+                solved, game.isFinished(), sequence++);
+        pending.tournament().changed.put(pending.playerId(), standing);
+        // the tournament only changes under scoringLock, so late guesses of a replaced one never reach the queue
+        if (pending.tournament() == tournament) publish(standing);
+        return new GuessOutcome(status, GuessScorer.toList(game.getLastFeedback(), game.getAnswer().length()));
+    }
+
+    private void publish(TournamentStanding standing) {
+        while (!updates.offer(standing)) {
+            if (updates.poll() != null) droppedUpdates.incrementAndGet();
+        }
+    }
+
+    private record PendingGuess(Tournament tournament, String playerId, String guess,
+                                CompletableFuture<GuessOutcome> outcome) {
+    }
+
+    private static final class Tournament {
+
+        private final AnswerProfile profile;
+        private final boolean hardMode;
+        private final Alphabet alphabet;
+        // games are created by joining players but only ever changed by the scoring loop
+        private final Map<String, WordleGame> games = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<TournamentStanding> joined = new ConcurrentLinkedQueue<>();
+        // guarded by scoringLock: the standings changed in the running batch, by player
+        private final Map<String, TournamentStanding> changed = new LinkedHashMap<>();
+        // immutable and ordered by RANKING, replaced after every batch that changed a standing
+        private volatile List<TournamentStanding> ranking = List.of();
+
+        Tournament(AnswerProfile profile, boolean hardMode, Alphabet alphabet) {
+            this.profile = profile;
+            this.hardMode = hardMode;
+            this.alphabet = alphabet;
+        }
+
+        void takeJoined() {
+            TournamentStanding standing;
+            while ((standing = joined.poll()) != null) changed.putIfAbsent(standing.playerId(), standing);
+        }
+
+        /**
+         * Merges the changed standings into the ranking, which costs one pass over the players plus sorting the
+         * changes instead of sorting every player on every read.
+         */
+        void publishRanking() {
+            if (changed.isEmpty()) return;
+            List<TournamentStanding> updated = new ArrayList<>(changed.values());
+            updated.sort(RANKING);
+
+            List<TournamentStanding> previous = ranking;
+            List<TournamentStanding> merged = new ArrayList<>(previous.size() + updated.size());
+            int next = 0;
+            for (TournamentStanding standing : previous) {
+                if (changed.containsKey(standing.playerId())) continue;
+                while (next < updated.size() && RANKING.compare(updated.get(next), standing) < 0)
+                    merged.add(updated.get(next++));
+                merged.add(standing);
+            }
+            merged.addAll(updated.subList(next, updated.size()));
+            ranking = Collections.unmodifiableList(merged);
+            changed.clear();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.wordle.service;
+
+/**
+ * The state of a player in the current tournament after their latest scored guess.
+ *
+ * @param playerId The id of the player.
+ * @param guesses The number of accepted guesses so far.
+ * @param solved True if the player has guessed the answer.
+ * @param finished True if the player has no guesses left or solved the answer.
+ * @param sequence The order in which the scoring loop produced this standing, earlier solves rank higher.
+ */
+public record TournamentStanding(String playerId, int guesses, boolean solved, boolean finished, long sequence) {
+}
@@ -0,0 +1,22 @@
+package com.example.wordle.service;
+
+/**
+ * The statistics of one answer word over the analyzed game history.
+ *
+ * @param word The answer word.
+ * @param games The number of games with this answer.
+ * @param wins The number of those games that were won.
+ * @param averageGuesses The average number of guesses of the won games, 0 if none was won.
+ * @param averageSkill The average information in bits the guesses were expected to give.
+ * @param averageLuck The average information in bits the guesses gave beyond the expected amount.
+ */
+public record WordHistory(String word, long games, long wins, double averageGuesses, double averageSkill,
+                          double averageLuck) {
+
+    /**
+     * @return The share of the games that were won, between 0 and 1.
+     */
+    public double solveRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+}
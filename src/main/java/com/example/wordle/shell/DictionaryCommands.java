@@ -0,0 +1,53 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.service.DictionaryStatus;
+import com.example.wordle.service.PlayGameService;
+import com.example.wordle.util.WordLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.nio.file.Path;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class DictionaryCommands {
+
+    private final PlayGameService playGameService;
+
+    /**
+     * Converts a dictionary file into the compact front-coded format, which the game loads like a plain text one.
+     *
+     * @param source The path of the dictionary to convert, plain text or front-coded, optionally gzip compressed.
+     * @param target The path of the front-coded dictionary to write.
+     * @param gzip True to gzip compress the front-coded dictionary as well.
+     * @return The number of words written.
+     */
+    @ShellMethod(key = "pack-dictionary", value = "Convert a dictionary file to the compact front-coded format.")
+    public String packDictionary(@ShellOption(help = "Path of the dictionary to convert") String source,
+                                 @ShellOption(help = "Path of the front-coded dictionary to write") String target,
+                                 @ShellOption(value = "--gzip", defaultValue = "false",
+                                         help = "Gzip compress the front-coded dictionary") boolean gzip) {
+        int count = WordLoader.packWordList(Path.of(source), Path.of(target), playGameService.getAlphabet(), gzip);
+        return "Packed " + count + " words into " + target + (gzip ? " (gzip compressed)." : ".");
+    }
+
+    /**
+     * Shows how far loading the dictionary has got, and how long it took once it is ready.
+     *
+     * @return The loading phase, the number of words and the time spent loading.
+     */
+    @ShellMethod(key = "status", value = "Show the progress of loading the dictionary.")
+    public String status() {
+        DictionaryStatus status = playGameService.getDictionaryStatus();
+        long millis = status.elapsed().toMillis();
+        return switch (status.phase()) {
+            case NOT_STARTED -> "Dictionary loading has not started yet.";
+            case READING_WORDS -> "Dictionary is loading: reading words for " + millis + " ms.";
+            case BUILDING_INDEX -> "Dictionary is loading: indexing " + status.words() + " words for " + millis +
+                    " ms.";
+            case READY -> "Dictionary is ready: " + status.words() + " words loaded in " + millis + " ms.";
+            case FAILED -> "Dictionary could not be loaded after " + millis + " ms: " + status.error();
+        };
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.wordle.shell;
 
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.Difficulty;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.KeyboardState;
 import com.example.wordle.model.LetterResult;
 import com.example.wordle.model.WordleGame;
 import com.example.wordle.service.PlayGameService;
@@ -11,23 +16,35 @@ import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
 import java.util.List;
-import java.util.stream.IntStream;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class GameCommands {
 
+    private static final int GRAY = 8; //ANSI gray (HEX #808080)
+    private static final AttributedStyle[] RESULT_STYLES = buildResultStyles();
+    private static final AttributedStyle UNKNOWN_KEY_STYLE = AttributedStyle.DEFAULT;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int SEARCH_RESULTS_PER_LINE = 10;
+
     private final PlayGameService playGameService;
 
     /**
      * Starts a new Wordle game and informs the user to start guessing.
      *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @param difficulty The difficulty of the answer: easy, medium or hard, empty for any word.
      * @return Start message
      */
     @ShellMethod(key = "start", value = "Start a new Wordle game.")
-    public String start() {
-        playGameService.startGame();
-        return "Game started, type 'guess <word>' to make a guess.";
+    public String start(@ShellOption(value = "--hard-mode", defaultValue = "false",
+                                help = "Every guess must use all the revealed hints") boolean hardMode,
+                        @ShellOption(value = "--difficulty", defaultValue = "",
+                                help = "Difficulty of the answer: easy, medium or hard") String difficulty) {
+        Difficulty tier = difficulty.isBlank() ? null : Difficulty.fromName(difficulty);
+        playGameService.startGame(hardMode, tier);
+        String mode = (hardMode ? " in hard mode" : "") + (tier == null ? "" : " with a " + tier + " word");
+        return "Game started" + mode + ", type 'guess <word>' to make a guess.";
     }
 
     /**
@@ -48,43 +65,65 @@ public class GameCommands {
         if (playGameService.isFinished()) return new AttributedString("Game over. Let's start a new game with " +
                 "start command!", AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
 
+        GuessOutcome outcome = playGameService.tryAttemptGuess(guessWord);
+        if (!outcome.isAccepted()) return new AttributedString(ExceptionHandler.WARNING_PREFIX +
+                outcome.status().getMessage(), AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+
         AttributedStringBuilder stringBuilder = new AttributedStringBuilder();
+        appendFeedback(stringBuilder, currentGame.getAlphabet(), guessWord, outcome.feedback());
+        appendKeyboard(stringBuilder, currentGame.getAlphabet(), currentGame.getKeyboard());
+
+        if (playGameService.isWinner()) {
+            stringBuilder.append("""
+                            \nCongratulations! You guessed the word!
+                            Type 'start' for another game or 'exit' to quit.
+                            """, AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN));
+
+        } else if (playGameService.isFinished()) {
+            stringBuilder.append("""
+                            \nGame over! The word was %s.
+                            Type 'start' for another game or 'exit' to quit.
+                            """.formatted(currentGame.getAnswer()),
+                            AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
+
+        } else {
+            stringBuilder.append("\nYou have ")
+                    .append(String.valueOf(playGameService.getRemainingAttempts()))
+                    .append(" more attempts.");
+        }
 
-        try{
-            List<LetterResult> letterResults = playGameService.attemptGuess(guessWord);
-
-            IntStream.range(0, guessWord.length()).forEach(letterPos -> {
-                char currentGuessChar = guessWord.toLowerCase().charAt(letterPos);
-                int letterColor = switch (letterResults.get(letterPos)) {
-                    case CORRECT -> AttributedStyle.GREEN;
-                    case PRESENT -> AttributedStyle.YELLOW;
-                    case ABSENT -> 8; //ANSI gray (HEX #808080)
-                };
-                stringBuilder.append(String.valueOf(currentGuessChar), AttributedStyle.DEFAULT.foreground(letterColor));
-            });
-
-            if (playGameService.isWinner()) {
-                stringBuilder.append("""
-                                \nCongratulations! You guessed the word!
-                                Type 'start' for another game or 'exit' to quit.
-                                """, AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN));
-
-            } else if (playGameService.isFinished()) {
-                stringBuilder.append("""
-                                \nGame over! The word was %s.
-                                Type 'start' for another game or 'exit' to quit.
-                                """.formatted(currentGame.getAnswer()),
-                                AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
-
-            } else {
-                stringBuilder.append("\nYou have ")
-                        .append(String.valueOf(playGameService.getRemainingAttempts()))
-                        .append(" more attempts.");
-            }
+        return stringBuilder.toAttributedString();
+    }
+
+    /**
+     * Searches the dictionary for words matching a pattern, containing some letters and excluding others.
+     *
+     * @param pattern The known letters at their positions and '?' for unknown ones, e.g. "?a??e".
+     * @param include Letters that must appear in the word, repeat a letter to require it multiple times.
+     * @param exclude Letters that must not appear in the word.
+     * @return An AttributedString listing the matching words.
+     */
+    @ShellMethod(key = "search", value = "Search the dictionary, e.g. 'search ?a??e --include r --exclude st'.")
+    public AttributedString search(@ShellOption(help = "Known letters and '?' for unknown ones, e.g. ?a??e")
+                                   String pattern,
+                                   @ShellOption(defaultValue = "", help = "Letters the word must contain")
+                                   String include,
+                                   @ShellOption(defaultValue = "", help = "Letters the word must not contain")
+                                   String exclude) {
+        List<String> matches = playGameService.searchWords(pattern, include, exclude);
+
+        if (matches.isEmpty()) return new AttributedString("No matching words found.",
+                AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+
+        AttributedStringBuilder stringBuilder = new AttributedStringBuilder();
+        stringBuilder.append(matches.size() + " matching words:",
+                AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN));
 
-        } catch (IllegalStateException e) {
-            return new AttributedString(e.getMessage(), AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
+        int shown = Math.min(matches.size(), MAX_SEARCH_RESULTS);
+        for (int i = 0; i < shown; i++) {
+            stringBuilder.append(i % SEARCH_RESULTS_PER_LINE == 0 ? "\n" : " ").append(matches.get(i));
         }
+        if (matches.size() > shown) stringBuilder.append("\n... and " + (matches.size() - shown) + " more.");
 
         return stringBuilder.toAttributedString();
     }
@@ -106,10 +145,16 @@ public class GameCommands {
                     - [Green]: Correct letter in the  correct position.
                     - [Yellow]: Correct letter in the wrong position.
                     - [Gray]: Letter not in the word.
+                - In hard mode every guess must use all the hints revealed so far.
                 
                 Commands:
-                - 'start': Start a new game.
+                - 'start': Start a new game. (add --hard-mode, --difficulty easy|medium|hard)
                 - 'guess <word>': Submit your guess. (e.g., guess apple)
+                - 'search <pattern>': Find dictionary words. (e.g., search ?a??e --include r --exclude st)
+                - 'leaderboard': Show the best won games. (add --daily for today only)
+                - 'player-start <name>': Start a game for a named player. (then 'player-guess <name> <word>')
+                - 'tournament-start': Start a tournament with one word for everyone. (then 'tournament-guess <word>')
+                - 'status': Show the dictionary loading progress.
                 - 'info': Show this help message.
                 - 'exit': Quit the game.
                 
@@ -118,4 +163,62 @@ public class GameCommands {
                 """.formatted(WordleGame.MAX_LETTERS, WordleGame.MAX_ATTEMPTS),
                 AttributedStyle.DEFAULT.foreground(AttributedStyle.CYAN));
     }
+
+    /**
+     * Renders the letters of a guess colored by their results.
+     *
+     * @param stringBuilder The builder to append the guess to.
+     * @param alphabet The alphabet of the game, used to case fold the guess.
+     * @param guess The accepted guess.
+     * @param letterResults The feedback for all the letters of the guess.
+     */
+    static void appendFeedback(AttributedStringBuilder stringBuilder, Alphabet alphabet, String guess,
+                               List<LetterResult> letterResults) {
+        String guessLowerCase = alphabet.fold(guess);
+        for (int letterPos = 0; letterPos < guessLowerCase.length(); letterPos++) {
+            stringBuilder.append(letterFragment(alphabet, guessLowerCase.charAt(letterPos)),
+                    RESULT_STYLES[letterResults.get(letterPos).ordinal()]);
+        }
+    }
+
+    /**
+     * Renders the on-screen keyboard, coloring every key by the best result known for its letter.
+     *
+     * @param stringBuilder The builder to append the keyboard to.
+     * @param alphabet The alphabet of the current game, giving the keyboard layout.
+     * @param keyboard The keyboard state of the current game.
+     */
+    private static void appendKeyboard(AttributedStringBuilder stringBuilder, Alphabet alphabet,
+                                       KeyboardState keyboard) {
+        List<String> rows = alphabet.getKeyboardRows();
+        for (int row = 0; row < rows.size(); row++) {
+            stringBuilder.append("\n").append(" ".repeat(row));
+            String keys = rows.get(row);
+            for (int key = 0; key < keys.length(); key++) {
+                char letter = keys.charAt(key);
+                LetterResult state = keyboard.stateOf(letter);
+                if (key > 0) stringBuilder.append(" ");
+                stringBuilder.append(letterFragment(alphabet, letter),
+                        state == null ? UNKNOWN_KEY_STYLE : RESULT_STYLES[state.ordinal()]);
+            }
+        }
+    }
+
+    private static String letterFragment(Alphabet alphabet, char letter) {
+        int index = alphabet.indexOf(letter);
+        return index >= 0 ? alphabet.letterString(index) : String.valueOf(letter);
+    }
+
+    private static AttributedStyle[] buildResultStyles() {
+        AttributedStyle[] styles = new AttributedStyle[LetterResult.values().length];
+        for (LetterResult letterResult : LetterResult.values()) {
+            int letterColor = switch (letterResult) {
+                case CORRECT -> AttributedStyle.GREEN;
+                case PRESENT -> AttributedStyle.YELLOW;
+                case ABSENT -> GRAY;
+            };
+            styles[letterResult.ordinal()] = AttributedStyle.DEFAULT.foreground(letterColor);
+        }
+        return styles;
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.service.HistoryAnalysisService;
+import com.example.wordle.service.HistoryReport;
+import com.example.wordle.service.WordHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.nio.file.Path;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class HistoryCommands {
+
+    private final HistoryAnalysisService historyAnalysisService;
+
+    /**
+     * Analyzes a game history file and shows the overall and the per-word statistics.
+     *
+     * @param file The path of the history file, one game per line: the answer followed by the guesses.
+     * @param top The maximum number of words to show.
+     * @return The statistics of the most played answers.
+     */
+    @ShellMethod(key = "analyze", value = "Analyze a game history file, one 'answer guess1 guess2 ...' per line.")
+    public String analyze(@ShellOption(help = "Path of the history file") String file,
+                          @ShellOption(value = "--top", defaultValue = "10") int top) {
+        HistoryReport report = historyAnalysisService.analyze(Path.of(file));
+        if (report.games() == 0) return "No games found in " + file + " (" + report.skippedLines() +
+                " lines skipped).";
+
+        StringBuilder sb = new StringBuilder("%d games, %.1f%% solved, skill %.2f bits and luck %+.2f bits per guess"
+                .formatted(report.games(), 100.0 * report.wins() / report.games(), report.averageSkill(),
+                        report.averageLuck()));
+        if (report.skippedLines() > 0) sb.append(", ").append(report.skippedLines()).append(" lines skipped");
+        sb.append("\nword    games  solved  avg guesses  skill   luck");
+        for (WordHistory word : report.words().subList(0, Math.min(Math.max(top, 0), report.words().size()))) {
+            sb.append("\n%-6s %6d  %5.1f%%  %11.2f  %5.2f  %+5.2f".formatted(word.word().toUpperCase(), word.games(),
+                    100 * word.solveRate(), word.averageGuesses(), word.averageSkill(), word.averageLuck()));
+        }
+        return sb.toString();
+    }
+}
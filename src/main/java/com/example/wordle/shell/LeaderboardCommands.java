@@ -0,0 +1,38 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.service.LeaderboardEntry;
+import com.example.wordle.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.util.List;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class LeaderboardCommands {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Shows the best won games, ranked by fewest guesses and then fastest time.
+     *
+     * @param daily True to show only today's games.
+     * @param top The maximum number of games to show.
+     * @return One line per game, or a message if nobody has won yet.
+     */
+    @ShellMethod(key = "leaderboard", value = "Show the best won games, by fewest guesses and then fastest time.")
+    public String leaderboard(@ShellOption(value = "--daily", defaultValue = "false") boolean daily,
+                              @ShellOption(value = "--top", defaultValue = "10") int top) {
+        List<LeaderboardEntry> entries = daily ? leaderboardService.topToday(top) : leaderboardService.top(top);
+        if (entries.isEmpty()) return daily ? "Nobody has won a game today yet." : "Nobody has won a game yet.";
+
+        StringBuilder sb = new StringBuilder(daily ? "Today's leaderboard:" : "Leaderboard:");
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            sb.append("\n%2d. %-12s %d guesses  %6.1fs  (%s)".formatted(i + 1, entry.playerId(), entry.guesses(),
+                    entry.durationMillis() / 1000.0, entry.answer().toUpperCase()));
+        }
+        return sb.toString();
+    }
+}
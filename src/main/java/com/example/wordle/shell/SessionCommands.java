@@ -0,0 +1,97 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.LetterResult;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.GameSessionService;
+import com.example.wordle.service.SessionStats;
+import lombok.RequiredArgsConstructor;
+import org.jline.utils.AttributedString;
+import org.jline.utils.AttributedStringBuilder;
+import org.jline.utils.AttributedStyle;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class SessionCommands {
+
+    private final GameSessionService gameSessionService;
+
+    /**
+     * Starts a game in a named player's session, e.g. for several players taking turns at the same shell. Sessions
+     * left idle for longer than the idle timeout are evicted with their games.
+     *
+     * @param player The name of the player.
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @return Start message
+     */
+    @ShellMethod(key = "player-start", value = "Start a game for a named player, type 'player-start <name>'.")
+    public String playerStart(@ShellOption(help = "The name of the player") String player,
+                              @ShellOption(value = "--hard-mode", defaultValue = "false",
+                                      help = "Every guess must use all the revealed hints") boolean hardMode) {
+        gameSessionService.startGame(player, hardMode);
+        return "Game started for " + player + (hardMode ? " in hard mode" : "") + ", type 'player-guess " + player +
+                " <word>' to make a guess.";
+    }
+
+    /**
+     * Handles a guess in a named player's game and resets the idle timeout of the player's session.
+     *
+     * @param player The name of the player.
+     * @param guessWord The word that the player guessed. It has to be {@link WordleGame#MAX_LETTERS} letters long.
+     * @return An AttributedString feedback text about the guess or game state.
+     */
+    @ShellMethod(key = "player-guess", value = "Guess in a named player's game, type 'player-guess <name> <word>'.")
+    public AttributedString playerGuess(@ShellOption(help = "The name of the player") String player,
+                                        @ShellOption(help = "Your " + WordleGame.MAX_LETTERS + " letter long guess")
+                                        String guessWord) {
+        GuessOutcome outcome = gameSessionService.tryAttemptGuess(player, guessWord);
+        if (outcome.status() == GuessStatus.NO_GAME) return new AttributedString("No game for " + player +
+                ", start one with 'player-start " + player + "'!",
+                AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+        if (!outcome.isAccepted()) return new AttributedString(ExceptionHandler.WARNING_PREFIX +
+                outcome.status().getMessage(), AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+
+        WordleGame game = gameSessionService.getGame(player);
+        AttributedStringBuilder stringBuilder = new AttributedStringBuilder();
+        GameCommands.appendFeedback(stringBuilder, gameSessionService.getAlphabet(), guessWord, outcome.feedback());
+        if (outcome.feedback().stream().allMatch(result -> result == LetterResult.CORRECT)) {
+            stringBuilder.append("\n" + player + " guessed the word!",
+                    AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN));
+        } else if (game == null || game.isFinished()) {
+            stringBuilder.append("\nGame over for " + player + (game == null ? "." : "! The word was " +
+                    game.getAnswer() + "."), AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
+        } else {
+            stringBuilder.append("\n" + player + " has " + game.getRemainingAttempts() + " more attempts.");
+        }
+        return stringBuilder.toAttributedString();
+    }
+
+    /**
+     * Ends a named player's session and frees its game.
+     *
+     * @param player The name of the player.
+     * @return End message
+     */
+    @ShellMethod(key = "player-end", value = "End a named player's game, type 'player-end <name>'.")
+    public String playerEnd(@ShellOption(help = "The name of the player") String player) {
+        return gameSessionService.endSession(player) ? "Session of " + player + " ended." :
+                "No session for " + player + ".";
+    }
+
+    /**
+     * Shows the lifecycle counters of the player sessions.
+     *
+     * @return The number of live, started and evicted sessions.
+     */
+    @ShellMethod(key = "sessions", value = "Show the number of live, started and evicted player sessions.")
+    public String sessions() {
+        SessionStats stats = gameSessionService.getStats();
+        return "Live sessions: %d, started: %d, evicted after idling: %d".formatted(stats.liveSessions(),
+                stats.startedSessions(), stats.evictedSessions());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.LetterResult;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.PlayGameService;
+import com.example.wordle.service.TournamentService;
+import com.example.wordle.service.TournamentStanding;
+import lombok.RequiredArgsConstructor;
+import org.jline.utils.AttributedString;
+import org.jline.utils.AttributedStringBuilder;
+import org.jline.utils.AttributedStyle;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class TournamentCommands {
+
+    private static final long GUESS_TIMEOUT_SECONDS = 5;
+
+    private final TournamentService tournamentService;
+
+    /**
+     * Starts a new tournament with one answer shared by all players and joins it as the local player.
+     *
+     * @param hardMode True if every guess has to use all the hints revealed so far.
+     * @return Start message
+     */
+    @ShellMethod(key = "tournament-start", value = "Start a tournament where every player guesses the same word.")
+    public String tournamentStart(@ShellOption(value = "--hard-mode", defaultValue = "false",
+                                          help = "Every guess must use all the revealed hints") boolean hardMode) {
+        tournamentService.startTournament(hardMode);
+        tournamentService.join(PlayGameService.LOCAL_PLAYER_ID);
+        return "Tournament started, type 'tournament-guess <word>' to make a guess.";
+    }
+
+    /**
+     * Submits a guess to the current tournament and waits for its scoring batch.
+     *
+     * @param guessWord The word that the user guessed. It has to be {@link WordleGame#MAX_LETTERS} letters long.
+     * @return An AttributedString feedback text about the guess.
+     */
+    @ShellMethod(key = "tournament-guess", value = "Guess the tournament word, type 'tournament-guess <word>'.")
+    public AttributedString tournamentGuess(@ShellOption(help = "Your " + WordleGame.MAX_LETTERS +
+                                                    " letter long guess") String guessWord) {
+        if (!tournamentService.isRunning()) return new AttributedString("Let's start a tournament with " +
+                "'tournament-start' command!", AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+
+        GuessOutcome outcome;
+        try {
+            outcome = tournamentService.submitGuess(PlayGameService.LOCAL_PLAYER_ID, guessWord)
+                    .get(GUESS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new AttributedString("Guess was interrupted.",
+                    AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
+        } catch (ExecutionException | TimeoutException e) {
+            return new AttributedString("Guess could not be scored, try again.",
+                    AttributedStyle.DEFAULT.foreground(AttributedStyle.RED));
+        }
+        if (!outcome.isAccepted()) return new AttributedString(ExceptionHandler.WARNING_PREFIX +
+                outcome.status().getMessage(), AttributedStyle.DEFAULT.foreground(AttributedStyle.YELLOW));
+
+        AttributedStringBuilder stringBuilder = new AttributedStringBuilder();
+        GameCommands.appendFeedback(stringBuilder, tournamentService.getAlphabet(), guessWord, outcome.feedback());
+        if (outcome.feedback().stream().allMatch(result -> result == LetterResult.CORRECT))
+            stringBuilder.append("\nSolved! Type 'tournament-standings' to see the ranking.",
+                    AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN));
+        return stringBuilder.toAttributedString();
+    }
+
+    /**
+     * Shows the live ranking of the current tournament.
+     *
+     * @param top The maximum number of players to show.
+     * @return One line per player, or a message if no tournament is running.
+     */
+    @ShellMethod(key = "tournament-standings", value = "Show the live ranking of the current tournament.")
+    public String tournamentStandings(@ShellOption(value = "--top", defaultValue = "10") int top) {
+        if (!tournamentService.isRunning()) return "No tournament is running.";
+
+        List<TournamentStanding> standings = tournamentService.standings(top);
+        StringBuilder sb = new StringBuilder("Tournament standings:");
+        for (int i = 0; i < standings.size(); i++) {
+            TournamentStanding standing = standings.get(i);
+            String state = standing.solved() ? "solved" : standing.finished() ? "out of guesses" : "playing";
+            sb.append("\n%2d. %-12s %d guesses  %s".formatted(i + 1, standing.playerId(), standing.guesses(), state));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Shows the standing changes of the current tournament published since the last call, taking them off the live
+     * update stream. Updates that were not taken before the stream filled up have been dropped by the scoring loop.
+     *
+     * @param max The maximum number of updates to take.
+     * @return One line per update, followed by the number of dropped updates if there were any.
+     */
+    @ShellMethod(key = "tournament-updates", value = "Show the tournament standing changes since the last call.")
+    public String tournamentUpdates(@ShellOption(value = "--max", defaultValue = "50") int max) {
+        if (!tournamentService.isRunning()) return "No tournament is running.";
+
+        List<TournamentStanding> updates = tournamentService.pollUpdates(max);
+        StringBuilder sb = new StringBuilder(updates.isEmpty() ? "No new tournament updates." : "Tournament updates:");
+        for (TournamentStanding standing : updates) {
+            String state = standing.solved() ? "solved" : standing.finished() ? "out of guesses" : "playing";
+            sb.append("\n%-12s %d guesses  %s".formatted(standing.playerId(), standing.guesses(), state));
+        }
+        long dropped = tournamentService.getDroppedUpdates();
+        if (dropped > 0) sb.append("\n%d older updates were dropped before they were read.".formatted(dropped));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.wordle.util;
+
+import java.util.Random;
+
+public class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a Walker/Vose alias table for the given weights in O(n), so that every draw costs O(1).
+     *
+     * @param weights The non-negative relative weights, indexed by item.
+     * @throws IllegalArgumentException If there are no weights, a weight is negative or not finite, or all of them
+     * are zero.
+     */
+    public AliasTable(double[] weights) {
+        if (weights == null || weights.length == 0) throw new IllegalArgumentException("Weights cannot be empty!");
+
+        final int size = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (!Double.isFinite(weight) || weight < 0)
+                throw new IllegalArgumentException("Weights must be finite and non-negative: " + weight);
+            total += weight;
+        }
+        if (total <= 0) throw new IllegalArgumentException("At least one weight must be positive!");
+
+        probability = new double[size];
+        alias = new int[size];
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        // pair every under-full column with an over-full one that tops it up
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // whatever is left is full up to rounding errors
+        while (largeCount > 0) probability[large[--largeCount]] = 1;
+        while (smallCount > 0) probability[small[--smallCount]] = 1;
+    }
+
+    /**
+     * Draws a random index with probability proportional to its weight, using one uniform column pick and one
+     * biased coin flip.
+     *
+     * @param random The source of randomness.
+     * @return The drawn index.
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Gets the number of items in the table.
+     *
+     * @return The number of weights the table was built from.
+     */
+    public int size() {
+        return probability.length;
+    }
+}
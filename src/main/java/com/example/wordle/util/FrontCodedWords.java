@@ -0,0 +1,183 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
+import com.example.wordle.model.WordleGame;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A compact dictionary format for sorted word lists. Every word is stored as the length of the prefix it shares with
+ * the previous word and the rest of its characters, so neighbouring words such as "crane", "crank" and "crash" cost
+ * two or three bytes each. The file starts with the {@link #MAGIC} header and a byte telling whether the words carry
+ * weights, followed by one record per word:
+ * <ul>
+ *     <li>one byte: the shared prefix length in the high four bits, the suffix length in characters in the low
+ *     ones</li>
+ *     <li>the suffix characters in modified UTF-8, like {@link DataOutputStream#writeUTF(String)}</li>
+ *     <li>in weighted files only: a whole weight as an unsigned varint of 7 bits per byte, lowest bits first, or 0
+ *     followed by any other weight as an eight byte double</li>
+ * </ul>
+ * Records are decoded in a single pass into a reused character buffer, without splitting lines or columns.
+ */
+final class FrontCodedWords {
+
+    static final byte[] MAGIC = {'W', 'F', 'C', '1'};
+    static final int MAX_WORD_LENGTH = 0x0F;
+
+    private static final int LENGTH_BITS = 4;
+    private static final int UNWEIGHTED = 0;
+    private static final int WEIGHTED = 1;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = (1 << VARINT_BITS) - 1;
+    private static final int VARINT_MORE = 1 << VARINT_BITS;
+    private static final long MAX_WHOLE_WEIGHT = 1L << 53;
+    private static final double DEFAULT_WEIGHT = 1;
+
+    private FrontCodedWords() {
+    }
+
+    /**
+     * Writes words in the front-coded format, sorted so that neighbours share the longest prefixes. Weights are only
+     * written if some word has a weight other than 1.
+     *
+     * @param words The words and their weights, in any order.
+     * @param output The stream to write to, left open.
+     * @throws IllegalArgumentException If a word is longer than {@value #MAX_WORD_LENGTH} characters.
+     * @throws IOException If the stream cannot be written.
+     */
+    static void write(List<WeightedWord> words, OutputStream output) throws IOException {
+        List<WeightedWord> sorted = new ArrayList<>(words);
+        sorted.sort(Comparator.comparing(WeightedWord::word));
+        boolean weighted = sorted.stream().anyMatch(word -> word.weight() != DEFAULT_WEIGHT);
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.write(MAGIC);
+        out.writeByte(weighted ? WEIGHTED : UNWEIGHTED);
+        String previous = "";
+        for (WeightedWord weightedWord : sorted) {
+            String word = weightedWord.word();
+            if (word.length() > MAX_WORD_LENGTH)
+                throw new IllegalArgumentException("Word is too long for a front-coded dictionary: " + word);
+
+            int shared = 0;
+            int limit = Math.min(previous.length(), word.length());
+            while (shared < limit && previous.charAt(shared) == word.charAt(shared)) shared++;
+
+            out.writeByte(shared << LENGTH_BITS | word.length() - shared);
+            for (int i = shared; i < word.length(); i++) writeChar(out, word.charAt(i));
+            if (weighted) writeWeight(out, weightedWord.weight());
+            previous = word;
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a front-coded dictionary, keeping the words of {@link WordleGame#MAX_LETTERS} length written with the
+     * letters of the alphabet.
+     *
+     * @param input The stream positioned after the {@link #MAGIC} header.
+     * @param alphabet The alphabet of the words.
+     * @return The valid words with their weights, in the stored order.
+     * @throws IOException If the stream cannot be read or a record is corrupt.
+     */
+    static List<WeightedWord> read(InputStream input, Alphabet alphabet) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        int weights = in.readUnsignedByte();
+        if (weights != UNWEIGHTED && weights != WEIGHTED)
+            throw new IOException("Unknown front-coded dictionary flags: " + weights);
+
+        List<WeightedWord> words = new ArrayList<>();
+        char[] word = new char[MAX_WORD_LENGTH];
+        int length = 0;
+        for (int header = in.read(); header >= 0; header = in.read()) {
+            int shared = header >>> LENGTH_BITS;
+            int suffixLength = header & MAX_WORD_LENGTH;
+            if (shared > length || shared + suffixLength > MAX_WORD_LENGTH)
+                throw new IOException("Corrupt front-coded record after " + words.size() + " words");
+
+            length = shared;
+            for (int i = 0; i < suffixLength; i++) word[length++] = readChar(in);
+            double weight = weights == WEIGHTED ? readWeight(in) : DEFAULT_WEIGHT;
+
+            if (length != WordleGame.MAX_LETTERS || !Double.isFinite(weight) || weight <= 0) continue;
+            String candidate = alphabet.fold(new String(word, 0, length));
+            if (alphabet.isWord(candidate)) words.add(new WeightedWord(candidate, weight));
+        }
+        return words;
+    }
+
+    /**
+     * Checks whether a stream starts with the front-coded header, consuming the header if it does.
+     *
+     * @param input A stream supporting mark and reset.
+     * @return True if the stream is a front-coded dictionary.
+     * @throws IOException If the stream cannot be read.
+     */
+    static boolean skipMagic(InputStream input) throws IOException {
+        input.mark(MAGIC.length);
+        byte[] header = input.readNBytes(MAGIC.length);
+        if (Arrays.equals(header, MAGIC)) return true;
+        input.reset();
+        return false;
+    }
+
+    private static void writeWeight(DataOutputStream out, double weight) throws IOException {
+        if (weight < 1 || weight > MAX_WHOLE_WEIGHT || weight != Math.rint(weight)) {
+            out.writeByte(0);
+            out.writeDouble(weight);
+            return;
+        }
+        long value = (long) weight;
+        while (value > VARINT_MASK) {
+            out.writeByte((int) (value & VARINT_MASK) | VARINT_MORE);
+            value >>>= VARINT_BITS;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static double readWeight(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_BITS) {
+            int next = in.readUnsignedByte();
+            value |= (long) (next & VARINT_MASK) << shift;
+            if ((next & VARINT_MORE) == 0) return value == 0 ? in.readDouble() : value;
+        }
+        throw new IOException("Corrupt weight in front-coded dictionary");
+    }
+
+    private static void writeChar(DataOutputStream out, char c) throws IOException {
+        if (c >= 0x01 && c <= 0x7F) {
+            out.writeByte(c);
+        } else if (c <= 0x7FF) {
+            out.writeByte(0xC0 | c >> 6);
+            out.writeByte(0x80 | c & 0x3F);
+        } else {
+            out.writeByte(0xE0 | c >> 12);
+            out.writeByte(0x80 | c >> 6 & 0x3F);
+            out.writeByte(0x80 | c & 0x3F);
+        }
+    }
+
+    private static char readChar(DataInputStream in) throws IOException {
+        int first = in.readUnsignedByte();
+        if (first < 0x80) return (char) first;
+        if ((first & 0xE0) == 0xC0) return (char) ((first & 0x1F) << 6 | continuation(in));
+        if ((first & 0xF0) == 0xE0) return (char) ((first & 0x0F) << 12 | continuation(in) << 6 | continuation(in));
+        throw new IOException("Corrupt character in front-coded dictionary");
+    }
+
+    private static int continuation(DataInputStream in) throws IOException {
+        int next = in.readUnsignedByte();
+        if ((next & 0xC0) != 0x80) throw new IOException("Corrupt character in front-coded dictionary");
+        return next & 0x3F;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.GuessScorer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates game history records into primitive per-word counters, so its memory depends on the dictionary size
+ * only. Every guess is scored by how much it narrowed the words still possible: skill is the information the guess
+ * was expected to give over all those words, luck is the information it actually gave minus the expected amount,
+ * both in bits. An accumulator is not thread-safe, parallel readers use one each and {@link #merge} them at the end.
+ */
+public class HistoryAccumulator {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final List<String> words;
+    private final Map<String, Integer> wordIndexes;
+    private final Alphabet alphabet;
+    private final int wordLength;
+    private final long[] games;
+    private final long[] wins;
+    private final long[] solvedGuesses;
+    private final long[] scoredGuesses;
+    private final double[] skill;
+    private final double[] luck;
+    private long skippedLines;
+
+    private int[] candidates;
+    private int[] remaining;
+    private final int[] patternSizes;
+
+    /**
+     * Creates an empty accumulator.
+     *
+     * @param words The dictionary words, all of the same length.
+     * @param wordIndexes The index of every dictionary word, shared between the accumulators.
+     * @param alphabet The alphabet of the dictionary, used to case fold and check the records.
+     */
+    public HistoryAccumulator(List<String> words, Map<String, Integer> wordIndexes, Alphabet alphabet) {
+        this.words = words;
+        this.wordIndexes = wordIndexes;
+        this.alphabet = alphabet;
+        this.wordLength = words.isEmpty() ? 0 : words.get(0).length();
+        int size = words.size();
+        this.games = new long[size];
+        this.wins = new long[size];
+        this.solvedGuesses = new long[size];
+        this.scoredGuesses = new long[size];
+        this.skill = new double[size];
+        this.luck = new double[size];
+        this.candidates = new int[size];
+        this.remaining = new int[size];
+        this.patternSizes = new int[GuessScorer.patternCount(wordLength)];
+    }
+
+    /**
+     * Records one game of the history. A record is the answer followed by the guesses in order, separated by
+     * whitespace, e.g. "apple crane plate apple". Guesses after the answer was found are ignored.
+     *
+     * @param line A line of the history file.
+     * @return False if the line was skipped because its answer is not in the dictionary or a guess is invalid.
+     */
+    public boolean accept(String line) {
+        String[] columns = alphabet.fold(line.strip()).split("\\s+");
+        Integer answer = columns.length < 2 ? null : wordIndexes.get(columns[0]);
+        if (answer == null || !validGuesses(columns)) {
+            skippedLines++;
+            return false;
+        }
+
+        String answerWord = words.get(answer);
+        int count = words.size();
+        for (int i = 0; i < count; i++) candidates[i] = i;
+
+        int guessCount = 0;
+        boolean won = false;
+        for (int column = 1; column < columns.length && !won; column++) {
+            String guess = columns[column];
+            int actual = GuessScorer.score(answerWord, guess);
+            Arrays.fill(patternSizes, 0);
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int code = GuessScorer.score(words.get(candidates[i]), guess);
+                patternSizes[code]++;
+                if (code == actual) remaining[kept++] = candidates[i];
+            }
+
+            double expected = expectedInformation(count);
+            skill[answer] += expected;
+            luck[answer] += log2((double) count / kept) - expected;
+            scoredGuesses[answer]++;
+
+            int[] swap = candidates;
+            candidates = remaining;
+            remaining = swap;
+            count = kept;
+            guessCount++;
+            won = actual == GuessScorer.ALL_CORRECT;
+        }
+
+        games[answer]++;
+        if (won) {
+            wins[answer]++;
+            solvedGuesses[answer] += guessCount;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the counters of another accumulator over the same dictionary to this one.
+     *
+     * @param other The accumulator to merge.
+     */
+    public void merge(HistoryAccumulator other) {
+        for (int i = 0; i < games.length; i++) {
+            games[i] += other.games[i];
+            wins[i] += other.wins[i];
+            solvedGuesses[i] += other.solvedGuesses[i];
+            scoredGuesses[i] += other.scoredGuesses[i];
+            skill[i] += other.skill[i];
+            luck[i] += other.luck[i];
+        }
+        skippedLines += other.skippedLines;
+    }
+
+    public long games(int word) {
+        return games[word];
+    }
+
+    public long wins(int word) {
+        return wins[word];
+    }
+
+    /**
+     * @return The total number of guesses of the won games of the word.
+     */
+    public long solvedGuesses(int word) {
+        return solvedGuesses[word];
+    }
+
+    /**
+     * @return The number of guesses scored for skill and luck in the games of the word.
+     */
+    public long scoredGuesses(int word) {
+        return scoredGuesses[word];
+    }
+
+    public double skill(int word) {
+        return skill[word];
+    }
+
+    public double luck(int word) {
+        return luck[word];
+    }
+
+    public long skippedLines() {
+        return skippedLines;
+    }
+
+    private boolean validGuesses(String[] columns) {
+        for (int column = 1; column < columns.length; column++) {
+            String guess = columns[column];
+            if (guess.length() != wordLength || !alphabet.isWord(guess)) return false;
+        }
+        return true;
+    }
+
+    private double expectedInformation(int count) {
+        double weightedSizes = 0;
+        for (int size : patternSizes) {
+            if (size > 1) weightedSizes += size * log2(size);
+        }
+        return log2(count) - weightedSizes / count;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / LN_2;
+    }
+}
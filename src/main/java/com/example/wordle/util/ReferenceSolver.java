@@ -0,0 +1,135 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.GuessScorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * A deterministic solver used to measure how hard each word is to guess. It only guesses words that are still
+ * possible and picks the one splitting the remaining candidates into the most feedback patterns, preferring smaller
+ * groups on ties. Because the solver is deterministic, its guesses form a single decision tree: the number of guesses
+ * it needs for an answer is the depth of that answer in the tree, so every answer is measured with one tree walk.
+ * Subtrees and the guess evaluation of large candidate sets run in parallel on the common fork-join pool.
+ */
+public final class ReferenceSolver {
+
+    private static final int PARALLEL_CANDIDATES = 512;
+
+    private ReferenceSolver() {
+    }
+
+    /**
+     * Measures the number of guesses the solver needs for every word as the answer.
+     *
+     * @param words The lowercase words, all of the same length.
+     * @return The number of guesses for each word, indexed like the words.
+     * @throws IllegalArgumentException If the words do not all have the same length.
+     */
+    public static int[] guessesToSolve(List<String> words) {
+        int[] guesses = new int[words.size()];
+        if (words.isEmpty()) return guesses;
+
+        int length = words.get(0).length();
+        for (String word : words) {
+            if (word.length() != length) throw new IllegalArgumentException("Words must have the same length!");
+        }
+        ForkJoinPool.commonPool().invoke(new SolveTask(words, GuessScorer.patternCount(length), guesses,
+                IntStream.range(0, words.size()).toArray(), 1));
+        return guesses;
+    }
+
+    private static final class SolveTask extends RecursiveAction {
+
+        private final List<String> words;
+        private final int patternCount;
+        private final int[] guesses;
+        private final int[] candidates;
+        private final int depth;
+
+        SolveTask(List<String> words, int patternCount, int[] guesses, int[] candidates, int depth) {
+            this.words = words;
+            this.patternCount = patternCount;
+            this.guesses = guesses;
+            this.candidates = candidates;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            int guess = candidates[bestGuess()];
+            guesses[guess] = depth;
+            if (candidates.length == 1) return;
+
+            String guessWord = words.get(guess);
+            int[] codes = new int[candidates.length];
+            int[] sizes = new int[patternCount];
+            for (int i = 0; i < candidates.length; i++) {
+                if (candidates[i] == guess) continue;
+                codes[i] = GuessScorer.score(words.get(candidates[i]), guessWord);
+                sizes[codes[i]]++;
+            }
+
+            int[][] groups = new int[patternCount][];
+            int[] filled = new int[patternCount];
+            for (int i = 0; i < candidates.length; i++) {
+                if (candidates[i] == guess) continue;
+                int code = codes[i];
+                if (groups[code] == null) groups[code] = new int[sizes[code]];
+                groups[code][filled[code]++] = candidates[i];
+            }
+
+            List<SolveTask> subtasks = new ArrayList<>();
+            for (int[] group : groups) {
+                if (group != null) subtasks.add(new SolveTask(words, patternCount, guesses, group, depth + 1));
+            }
+            invokeAll(subtasks);
+        }
+
+        private int bestGuess() {
+            if (candidates.length <= 2) return 0;
+            if (candidates.length < PARALLEL_CANDIDATES) {
+                int best = 0;
+                long bestRank = Long.MIN_VALUE;
+                int[] sizes = new int[patternCount];
+                for (int i = 0; i < candidates.length; i++) {
+                    long rank = rank(i, sizes);
+                    if (rank > bestRank) {
+                        bestRank = rank;
+                        best = i;
+                    }
+                }
+                return best;
+            }
+
+            long[] ranks = new long[candidates.length];
+            IntStream.range(0, candidates.length).parallel().forEach(i -> ranks[i] = rank(i, new int[patternCount]));
+            int best = 0;
+            for (int i = 1; i < ranks.length; i++) {
+                if (ranks[i] > ranks[best]) best = i;
+            }
+            return best;
+        }
+
+        /**
+         * Ranks a candidate as the next guess: more distinct patterns first, then the smaller sum of squared group
+         * sizes, i.e. the smaller expected number of words left.
+         */
+        private long rank(int candidate, int[] sizes) {
+            Arrays.fill(sizes, 0);
+            String guessWord = words.get(candidates[candidate]);
+            int patterns = 0;
+            long sumOfSquares = 0;
+            for (int answer : candidates) {
+                int size = ++sizes[GuessScorer.score(words.get(answer), guessWord)];
+                if (size == 1) patterns++;
+                sumOfSquares += 2L * size - 1;
+            }
+            return ((long) patterns << 40) - sumOfSquares;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.wordle.util;
+
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel for idle timeouts. Entries are linked intrusively into the bucket of their deadline tick, so
+ * scheduling, rescheduling and cancelling are O(1) and advancing the clock only visits the buckets of the elapsed
+ * ticks. Deadlines further away than one rotation simply stay in their bucket until their tick comes around.
+ *
+ * @param <E> The type of the scheduled entries.
+ */
+public class TimingWheel<E extends TimingWheel.Entry> {
+
+    /**
+     * Base class of the entries the wheel can schedule, it holds the bucket links and the deadline.
+     */
+    public abstract static class Entry {
+        Entry previous;
+        Entry next;
+        long deadlineTick;
+
+        boolean isScheduled() {
+            return previous != null;
+        }
+    }
+
+    private static final class Bucket extends Entry {
+        Bucket() {
+            previous = this;
+            next = this;
+        }
+    }
+
+    private final long tickMillis;
+    private final Bucket[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a wheel whose rotation covers at least the given span, so entries scheduled within it are visited only
+     * once.
+     *
+     * @param tickMillis The length of a tick, the resolution of the deadlines.
+     * @param spanMillis The longest delay expected to be scheduled.
+     * @param startMillis The current time.
+     */
+    public TimingWheel(long tickMillis, long spanMillis, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        long ticks = Math.max(1, Math.min(1 << 20, (spanMillis + tickMillis - 1) / tickMillis + 1));
+        int bucketCount = Integer.highestOneBit((int) ticks);
+        if (bucketCount < ticks) bucketCount <<= 1;
+
+        this.tickMillis = tickMillis;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) buckets[i] = new Bucket();
+        this.mask = bucketCount - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the entry to expire after the delay, replacing its previous deadline if it was already scheduled.
+     *
+     * @param entry The entry to schedule.
+     * @param nowMillis The current time.
+     * @param delayMillis The time after which the entry expires.
+     */
+    public void schedule(E entry, long nowMillis, long delayMillis) {
+        if (entry.isScheduled()) unlink(entry);
+        long deadlineTick = Math.max(currentTick + 1, (nowMillis + delayMillis + tickMillis - 1) / tickMillis);
+        entry.deadlineTick = deadlineTick;
+        link(buckets[(int) (deadlineTick & mask)], entry);
+    }
+
+    /**
+     * Removes the entry from the wheel.
+     *
+     * @param entry The entry to cancel.
+     * @return True if the entry was scheduled.
+     */
+    public boolean cancel(E entry) {
+        if (!entry.isScheduled()) return false;
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the current time, removing and reporting every entry whose deadline has passed.
+     *
+     * @param nowMillis The current time.
+     * @param onExpired Receives the expired entries.
+     * @return The number of expired entries.
+     */
+    @SuppressWarnings("unchecked")
+    public int advance(long nowMillis, Consumer<? super E> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) return 0;
+
+        // after a full rotation every bucket has been visited once, the rest would repeat them
+        long fromTick = Math.max(currentTick + 1, targetTick - mask);
+        currentTick = targetTick;
+
+        int expired = 0;
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Bucket bucket = buckets[(int) (tick & mask)];
+            Entry entry = bucket.next;
+            while (entry != bucket) {
+                Entry next = entry.next;
+                if (entry.deadlineTick <= targetTick) {
+                    unlink(entry);
+                    onExpired.accept((E) entry);
+                    expired++;
+                }
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Gets the number of scheduled entries.
+     *
+     * @return The number of entries waiting to expire.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void link(Bucket bucket, Entry entry) {
+        Entry last = bucket.previous;
+        entry.previous = last;
+        entry.next = bucket;
+        last.next = entry;
+        bucket.previous = entry;
+        size++;
+    }
+
+    private void unlink(Entry entry) {
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+        entry.previous = null;
+        entry.next = null;
+        size--;
+    }
+}
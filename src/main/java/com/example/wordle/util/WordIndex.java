@@ -0,0 +1,177 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class WordIndex {
+
+    public static final char WILDCARD = '?';
+
+    private final List<String> words;
+    private final int wordLength;
+    private final Alphabet alphabet;
+    private final int alphabetSize;
+    private final long[] allWords;
+    // bitset of the words having letter l at position p, stored at [p * alphabetSize + l]
+    private final long[][] letterAtPosition;
+    // bitset of the words containing letter l at least c times, stored at [l * wordLength + c - 1]
+    private final long[][] letterMinCount;
+
+    /**
+     * Builds the indexes over English words, see {@link #WordIndex(List, int, Alphabet)}.
+     *
+     * @param words The lowercase words to index, all of them {@code wordLength} long.
+     * @param wordLength The length of the indexed words.
+     */
+    public WordIndex(List<String> words, int wordLength) {
+        this(words, wordLength, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Builds the positional and letter count bitset indexes over the given lowercase words. Every bitset holds one
+     * bit per word, so queries combine whole 64-word blocks at a time. Letters are indexed by the alphabet, letters
+     * outside of it never match.
+     *
+     * @param words The case folded words to index, all of them {@code wordLength} long.
+     * @param wordLength The length of the indexed words.
+     * @param alphabet The alphabet of the words.
+     */
+    public WordIndex(List<String> words, int wordLength, Alphabet alphabet) {
+        this.words = List.copyOf(words);
+        this.wordLength = wordLength;
+        this.alphabet = alphabet;
+        this.alphabetSize = alphabet.size();
+        final int blocks = (this.words.size() + Long.SIZE - 1) / Long.SIZE;
+
+        allWords = new long[blocks];
+        letterAtPosition = new long[wordLength * alphabetSize][blocks];
+        letterMinCount = new long[alphabetSize * wordLength][blocks];
+
+        int[] letterCounts = new int[alphabetSize];
+        for (int wordId = 0; wordId < this.words.size(); wordId++) {
+            String word = this.words.get(wordId);
+            int block = wordId >>> 6;
+            long bit = 1L << wordId;
+            allWords[block] |= bit;
+
+            for (int pos = 0; pos < wordLength; pos++) {
+                int letter = letterIndex(word.charAt(pos));
+                if (letter < 0) continue;
+                letterAtPosition[pos * alphabetSize + letter][block] |= bit;
+                letterMinCount[letter * wordLength + letterCounts[letter]][block] |= bit;
+                letterCounts[letter]++;
+            }
+            Arrays.fill(letterCounts, 0);
+        }
+    }
+
+    /**
+     * Finds the words matching a pattern, containing the required letters and none of the excluded ones.
+     *
+     * @param pattern The letters at known positions and {@link #WILDCARD} elsewhere, e.g. "?a??e".
+     * @param included Letters the word must contain, a repeated letter must appear at least that many times.
+     * @param excluded Letters the word must not contain at all.
+     * @return The matching words in dictionary order.
+     * @throws IllegalArgumentException If the pattern has the wrong length or contains invalid characters.
+     */
+    public List<String> search(String pattern, String included, String excluded) {
+        long[] matches = query(pattern, included, excluded);
+
+        List<String> result = new ArrayList<>();
+        for (int block = 0; block < matches.length; block++) {
+            long bits = matches[block];
+            while (bits != 0) {
+                result.add(words.get((block << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the words matching the query, see {@link #search(String, String, String)}.
+     *
+     * @param pattern The letters at known positions and {@link #WILDCARD} elsewhere, e.g. "?a??e".
+     * @param included Letters the word must contain, a repeated letter must appear at least that many times.
+     * @param excluded Letters the word must not contain at all.
+     * @return The number of matching words.
+     * @throws IllegalArgumentException If the pattern has the wrong length or contains invalid characters.
+     */
+    public int count(String pattern, String included, String excluded) {
+        int count = 0;
+        for (long block : query(pattern, included, excluded)) count += Long.bitCount(block);
+        return count;
+    }
+
+    /**
+     * Gets the number of indexed words.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return words.size();
+    }
+
+    private long[] query(String pattern, String included, String excluded) {
+        String patternLowerCase = pattern == null ? null : alphabet.fold(pattern);
+        if (patternLowerCase == null || patternLowerCase.length() != wordLength)
+            throw new IllegalArgumentException("Pattern must be " + wordLength + " characters long, use '" +
+                    WILDCARD + "' for unknown letters!");
+
+        long[] result = allWords.clone();
+        for (int pos = 0; pos < wordLength; pos++) {
+            char c = patternLowerCase.charAt(pos);
+            if (c == WILDCARD) continue;
+            if (!Character.isLetter(c))
+                throw new IllegalArgumentException("Pattern may only contain letters and '" + WILDCARD + "'!");
+            and(result, letterBitset(letterAtPosition, pos * alphabetSize, c));
+        }
+
+        if (included != null && !included.isEmpty()) {
+            String includedLowerCase = alphabet.fold(checkLetters(included));
+            int[] minCounts = new int[alphabetSize];
+            for (int i = 0; i < includedLowerCase.length(); i++) {
+                char c = includedLowerCase.charAt(i);
+                int letter = letterIndex(c);
+                if (letter < 0 || minCounts[letter] == wordLength) return new long[result.length];
+                and(result, letterMinCount[letter * wordLength + minCounts[letter]++]);
+            }
+        }
+
+        if (excluded != null && !excluded.isEmpty()) {
+            String excludedLowerCase = alphabet.fold(checkLetters(excluded));
+            for (int i = 0; i < excludedLowerCase.length(); i++) {
+                int letter = letterIndex(excludedLowerCase.charAt(i));
+                if (letter >= 0) andNot(result, letterMinCount[letter * wordLength]);
+            }
+        }
+
+        return result;
+    }
+
+    private int letterIndex(char c) {
+        return alphabet.indexOf(c);
+    }
+
+    private long[] letterBitset(long[][] bitsets, int offset, char c) {
+        int letter = letterIndex(c);
+        return letter < 0 ? new long[allWords.length] : bitsets[offset + letter];
+    }
+
+    private static String checkLetters(String letters) {
+        if (!letters.chars().allMatch(Character::isLetter))
+            throw new IllegalArgumentException("Included and excluded letters must be alphabetic characters!");
+        return letters;
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) target[i] &= other[i];
+    }
+
+    private static void andNot(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) target[i] &= ~other[i];
+    }
+}
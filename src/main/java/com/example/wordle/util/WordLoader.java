@@ -2,13 +2,24 @@ package com.example.wordle.util;
 
 import com.example.wordle.handler.EmptyWordListException;
 import com.example.wordle.handler.WordListIOException;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
 import com.example.wordle.model.WordleGame;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class WordLoader {
 
+    private static final double DEFAULT_WEIGHT = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     /**
      * Loads the words of {@link WordleGame#MAX_LETTERS} length from a resource file.
      *
@@ -19,14 +30,60 @@ public class WordLoader {
      * @throws WordListIOException If there is an I/O error while reading the file
      */
     public static List<String> loadWordList(InputStream input, String wordSource){
+        return loadWordList(input, wordSource, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Loads the words of {@link WordleGame#MAX_LETTERS} length written with the letters of an alphabet.
+     *
+     * @param input The UTF-8 input stream for reading words
+     * @param wordSource File name for the source
+     * @param alphabet The alphabet of the words, used for case folding and to reject foreign letters
+     * @return List of valid case folded words
+     * @throws IllegalArgumentException If the file is not found
+     * @throws WordListIOException If there is an I/O error while reading the file
+     */
+    public static List<String> loadWordList(InputStream input, String wordSource, Alphabet alphabet){
+        return loadWeightedWordList(input, wordSource, alphabet).stream()
+                .map(WeightedWord::word)
+                .toList();
+    }
+
+    /**
+     * Loads the words of {@link WordleGame#MAX_LETTERS} length together with their frequencies from a resource file.
+     * Every line holds a word and an optional positive frequency column separated by whitespace, e.g. "apple 1200".
+     * Words without a frequency get weight 1, lines with an invalid word or frequency are skipped.
+     *
+     * @param input The input stream for reading words
+     * @param wordSource File name for the source
+     * @return List of valid lowercase words with their weights
+     * @throws IllegalArgumentException If the file is not found
+     * @throws WordListIOException If there is an I/O error while reading the file
+     */
+    public static List<WeightedWord> loadWeightedWordList(InputStream input, String wordSource){
+        return loadWeightedWordList(input, wordSource, Alphabet.ENGLISH);
+    }
+
+    /**
+     * Loads the words and their frequencies like {@link #loadWeightedWordList(InputStream, String)}, keeping only the
+     * words written with the letters of the alphabet. The format is detected from the first bytes: gzip compressed
+     * input is decompressed while it is read, and both plain text and {@link FrontCodedWords front-coded} dictionaries
+     * are accepted, compressed or not.
+     *
+     * @param input The input stream for reading words, UTF-8 if it is plain text
+     * @param wordSource File name for the source
+     * @param alphabet The alphabet of the words, used for case folding and to reject foreign letters
+     * @return List of valid case folded words with their weights
+     * @throws IllegalArgumentException If the file is not found
+     * @throws WordListIOException If there is an I/O error while reading the file
+     */
+    public static List<WeightedWord> loadWeightedWordList(InputStream input, String wordSource, Alphabet alphabet){
         if (input == null) throw new IllegalArgumentException("Word list file not found: " + wordSource);
-        try(BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(input))) {
+        try(InputStream dictionary = decompress(input)) {
 
-            List<String> wordList = bufferedReader.lines()
-                    .filter(word -> word.chars().allMatch(Character::isLetter))
-                    .filter(word -> word.length() == WordleGame.MAX_LETTERS)
-                    .map(String::toLowerCase)
-                    .toList();
+            List<WeightedWord> wordList = FrontCodedWords.skipMagic(dictionary)
+                    ? FrontCodedWords.read(dictionary, alphabet)
+                    : readLines(dictionary, alphabet);
 
             if(wordList.isEmpty()) throw new EmptyWordListException("Word list file is empty or contains no valid " +
                     "words: " + wordSource + "\n");
@@ -37,4 +94,89 @@ public class WordLoader {
             throw new WordListIOException("Error reading word list file: " +wordSource, e);
         }
     }
+
+    /**
+     * Converts a dictionary in any supported format into the front-coded format, which is several times smaller than
+     * plain text and decodes without parsing lines.
+     *
+     * @param source The path of the dictionary to convert
+     * @param target The path of the front-coded dictionary to write
+     * @param alphabet The alphabet of the words
+     * @param gzip True to gzip compress the front-coded dictionary as well
+     * @return The number of words written
+     * @throws WordListIOException If there is an I/O error while reading or writing the files
+     */
+    public static int packWordList(Path source, Path target, Alphabet alphabet, boolean gzip){
+        List<WeightedWord> wordList;
+        try {
+            wordList = loadWeightedWordList(Files.newInputStream(source), source.toString(), alphabet);
+        } catch (IOException e) {
+            throw new WordListIOException("Error reading word list file: " + source, e);
+        }
+
+        try(OutputStream output = new BufferedOutputStream(Files.newOutputStream(target), BUFFER_SIZE)) {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, BUFFER_SIZE);
+                FrontCodedWords.write(wordList, compressed);
+                compressed.finish();
+            } else {
+                FrontCodedWords.write(wordList, output);
+            }
+        } catch (IOException e) {
+            throw new WordListIOException("Error writing word list file: " + target, e);
+        }
+        return wordList.size();
+    }
+
+    /**
+     * Wraps the input in a gzip decompressor if it starts with the gzip magic bytes, so compressed dictionaries load
+     * without being unpacked first, whatever their file name.
+     *
+     * @param input The raw dictionary input.
+     * @return A stream of the uncompressed dictionary supporting mark and reset.
+     * @throws IOException If the input cannot be read or the gzip header is corrupt.
+     */
+    private static InputStream decompress(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, BUFFER_SIZE);
+        buffered.mark(2);
+        boolean gzip = buffered.read() == (GZIPInputStream.GZIP_MAGIC & 0xFF) &&
+                buffered.read() == GZIPInputStream.GZIP_MAGIC >>> 8;
+        buffered.reset();
+        return gzip ? new BufferedInputStream(new GZIPInputStream(buffered, BUFFER_SIZE), BUFFER_SIZE) : buffered;
+    }
+
+    private static List<WeightedWord> readLines(InputStream input, Alphabet alphabet) {
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return bufferedReader.lines()
+                .map(line -> parseLine(line, alphabet))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Parses a dictionary line into a word and its weight.
+     *
+     * @param line A line of the dictionary file.
+     * @param alphabet The alphabet of the dictionary.
+     * @return The parsed word, or null if the word or its frequency is invalid.
+     */
+    private static WeightedWord parseLine(String line, Alphabet alphabet) {
+        String[] columns = line.strip().split("\\s+");
+        if (columns.length > 2) return null;
+
+        String word = alphabet.fold(columns[0]);
+        if (word.length() != WordleGame.MAX_LETTERS || !alphabet.isWord(word)) return null;
+
+        double weight = DEFAULT_WEIGHT;
+        if (columns.length == 2) {
+            try {
+                weight = Double.parseDouble(columns[1]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (!Double.isFinite(weight) || weight <= 0) return null;
+        }
+
+        return new WeightedWord(word, weight);
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphabetTest {
+
+    @Test
+    void testForName_IgnoresCase() {
+        assertSame(Alphabet.ENGLISH, Alphabet.forName("english"));
+        assertSame(Alphabet.HUNGARIAN, Alphabet.forName(" Hungarian "));
+        assertSame(Alphabet.GERMAN, Alphabet.forName("GERMAN"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.forName("klingon"));
+    }
+
+    @Test
+    void testIndexOf_DenseIndexes() {
+        Alphabet hungarian = Alphabet.HUNGARIAN;
+        assertEquals(35, hungarian.size());
+        for (int index = 0; index < hungarian.size(); index++) {
+            assertEquals(index, hungarian.indexOf(hungarian.letterAt(index)));
+            assertEquals(String.valueOf(hungarian.letterAt(index)), hungarian.letterString(index));
+        }
+        assertEquals(34, hungarian.indexOf('z'));
+        assertEquals(-1, hungarian.indexOf('ä'));
+        assertEquals(-1, hungarian.indexOf('Z'));
+        assertEquals(-1, Alphabet.ENGLISH.indexOf('￿'));
+    }
+
+    @Test
+    void testFoldAndIsWord() {
+        assertEquals("győző", Alphabet.HUNGARIAN.fold("GYŐZŐ"));
+        assertTrue(Alphabet.HUNGARIAN.isWord("győző"));
+        assertFalse(Alphabet.ENGLISH.isWord("győző"));
+        assertTrue(Alphabet.GERMAN.isWord(Alphabet.GERMAN.fold("Grüße")));
+        assertFalse(Alphabet.GERMAN.isWord("gr-ße"));
+    }
+
+    @Test
+    void testKeyboardRows_HoldEveryLetterOnce() {
+        for (Alphabet alphabet : List.of(Alphabet.ENGLISH, Alphabet.HUNGARIAN, Alphabet.GERMAN, Alphabet.SPANISH)) {
+            String keys = String.join("", alphabet.getKeyboardRows());
+            assertEquals(alphabet.size(), keys.length(), alphabet.getName());
+            assertTrue(alphabet.isWord(keys), alphabet.getName());
+        }
+    }
+
+    @Test
+    void testConstructor_MissingKeysAppendedAsRow() {
+        Alphabet alphabet = new Alphabet("abc", Locale.ROOT, "abc", List.of("ba"));
+        assertEquals(List.of("ba", "c"), alphabet.getKeyboardRows());
+    }
+
+    @Test
+    void testConstructor_InvalidLetters_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", Locale.ROOT, "aba", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", Locale.ROOT, "aB", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", Locale.ROOT, "a1", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", Locale.ROOT, "ab", List.of("ac")));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", Locale.ROOT, "", List.of()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerProfileTest {
+
+    private static final List<String> WORDS = List.of("abbey", "babes", "apple", "paper", "eagle", "otter", "water",
+            "llama", "allee", "eerie", "geese", "xylyl", "sassy", "asses", "zzzzz");
+
+    @Test
+    void testScore_MatchesGuessScorer() {
+        for (String answer : WORDS) {
+            AnswerProfile profile = new AnswerProfile(answer);
+            for (String guess : WORDS) {
+                assertEquals(GuessScorer.score(answer, guess), profile.score(guess), answer + " / " + guess);
+            }
+        }
+    }
+
+    @Test
+    void testScore_AllCorrect_IsZero() {
+        assertEquals(GuessScorer.ALL_CORRECT, new AnswerProfile("apple").score("apple"));
+    }
+
+    @Test
+    void testScore_LettersOutsideAnswer_Absent() {
+        int code = new AnswerProfile("apple").score("xyz1q");
+        for (int pos = 0; pos < 5; pos++) assertEquals(LetterResult.ABSENT, GuessScorer.resultAt(code, pos));
+    }
+
+    @Test
+    void testConstructor_InvalidLength_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new AnswerProfile(""));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerProfile("abcdefghijklmnop"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifficultyTest {
+
+    @Test
+    void testFromName_IgnoresCase() {
+        assertEquals(Difficulty.EASY, Difficulty.fromName("easy"));
+        assertEquals(Difficulty.MEDIUM, Difficulty.fromName(" Medium "));
+        assertEquals(Difficulty.HARD, Difficulty.fromName("HARD"));
+    }
+
+    @Test
+    void testFromName_Unknown_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> Difficulty.fromName("brutal"));
+    }
+
+    @Test
+    void testToString_IsLowerCase() {
+        assertEquals("medium", Difficulty.MEDIUM.toString());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessOutcomeTest {
+
+    @Test
+    void testRejected_SharedInstanceWithoutFeedback() {
+        GuessOutcome outcome = GuessOutcome.rejected(GuessStatus.INVALID_FORMAT);
+        assertSame(outcome, GuessOutcome.rejected(GuessStatus.INVALID_FORMAT));
+        assertEquals(GuessStatus.INVALID_FORMAT, outcome.status());
+        assertTrue(outcome.feedback().isEmpty());
+        assertFalse(outcome.isAccepted());
+    }
+
+    @Test
+    void testAccepted_HoldsFeedback() {
+        GuessOutcome outcome = new GuessOutcome(GuessStatus.ACCEPTED, List.of(LetterResult.CORRECT));
+        assertTrue(outcome.isAccepted());
+        assertEquals(List.of(LetterResult.CORRECT), outcome.feedback());
+    }
+}
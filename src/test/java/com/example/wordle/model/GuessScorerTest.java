@@ -0,0 +1,38 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessScorerTest {
+
+    @Test
+    void testScore_AllCorrect_IsZero() {
+        assertEquals(GuessScorer.ALL_CORRECT, GuessScorer.score("apple", "apple"));
+    }
+
+    @Test
+    void testScore_DuplicateLetters_MatchesWordleRules() {
+        assertEquals(List.of(LetterResult.PRESENT, LetterResult.PRESENT, LetterResult.CORRECT, LetterResult.CORRECT,
+                LetterResult.ABSENT), GuessScorer.toList(GuessScorer.score("abbey", "babes"), 5));
+        assertEquals(List.of(LetterResult.PRESENT, LetterResult.PRESENT, LetterResult.CORRECT, LetterResult.PRESENT,
+                LetterResult.ABSENT), GuessScorer.toList(GuessScorer.score("apple", "lapel"), 5));
+    }
+
+    @Test
+    void testResultAt_DecodesSinglePosition() {
+        int code = GuessScorer.score("water", "eagle");
+        assertEquals(LetterResult.PRESENT, GuessScorer.resultAt(code, 0));
+        assertEquals(LetterResult.CORRECT, GuessScorer.resultAt(code, 1));
+        assertEquals(LetterResult.ABSENT, GuessScorer.resultAt(code, 4));
+    }
+
+    @Test
+    void testToList_OtherLengths() {
+        assertEquals(List.of(LetterResult.PRESENT, LetterResult.PRESENT, LetterResult.CORRECT),
+                GuessScorer.toList(GuessScorer.score("cat", "act"), 3));
+        assertEquals(243, GuessScorer.patternCount(WordleGame.MAX_LETTERS));
+    }
+}
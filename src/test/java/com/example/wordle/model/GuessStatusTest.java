@@ -0,0 +1,23 @@
+package com.example.wordle.model;
+
+import com.example.wordle.handler.NoGameStartedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessStatusTest {
+
+    @Test
+    void testToException_MapsToThrowingApi() {
+        assertInstanceOf(IllegalArgumentException.class, GuessStatus.INVALID_FORMAT.toException());
+        assertInstanceOf(IllegalArgumentException.class, GuessStatus.ALREADY_GUESSED.toException());
+        assertInstanceOf(NoGameStartedException.class, GuessStatus.GAME_OVER.toException());
+        assertInstanceOf(IllegalStateException.class, GuessStatus.NO_GAME.toException());
+        assertEquals(GuessStatus.ALREADY_GUESSED.getMessage(), GuessStatus.ALREADY_GUESSED.toException().getMessage());
+    }
+
+    @Test
+    void testToException_Accepted_ThrowsException() {
+        assertThrows(IllegalStateException.class, GuessStatus.ACCEPTED::toException);
+    }
+}
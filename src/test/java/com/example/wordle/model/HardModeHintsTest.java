@@ -0,0 +1,43 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardModeHintsTest {
+
+    @Test
+    void testAllows_NoHints_AllowsAnything() {
+        assertTrue(new HardModeHints().allows("zzzzz"));
+    }
+
+    @Test
+    void testRecord_GreenYellowGray() {
+        HardModeHints hints = new HardModeHints();
+        hints.record("carts", GuessScorer.score("crane", "carts"));
+        assertTrue(hints.allows("cramp"));
+        assertFalse(hints.allows("brick"));
+        assertFalse(hints.allows("cards"));
+        assertFalse(hints.allows("carol"));
+        assertFalse(hints.allows("crest"));
+        assertTrue(hints.allows("cigar"));
+    }
+
+    @Test
+    void testRecord_LetterAbsentEverywhereAfterGray() {
+        HardModeHints hints = new HardModeHints();
+        hints.record("fuzzy", GuessScorer.score("apple", "fuzzy"));
+        assertFalse(hints.allows("zebra"));
+        assertTrue(hints.allows("table"));
+    }
+
+    @Test
+    void testRecord_HungarianLetters() {
+        HardModeHints hints = new HardModeHints(Alphabet.HUNGARIAN);
+        hints.record("győző", GuessScorer.score("szőlő", "győző"));
+        assertTrue(hints.allows("szőlő"));
+        assertFalse(hints.allows("sőőlő"));
+        assertFalse(hints.allows("szőyő"));
+        assertFalse(hints.allows("szolő"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyboardStateTest {
+
+    @Test
+    void testStateOf_UnguessedLetter_IsNull() {
+        KeyboardState keyboardState = new KeyboardState();
+        assertNull(keyboardState.stateOf('a'));
+        assertNull(keyboardState.stateOf('é'));
+    }
+
+    @Test
+    void testRecord_KeepsBestResult() {
+        KeyboardState keyboardState = new KeyboardState();
+        keyboardState.record("otter", GuessScorer.score("water", "otter"));
+        assertEquals(LetterResult.ABSENT, keyboardState.stateOf('o'));
+        assertEquals(LetterResult.CORRECT, keyboardState.stateOf('t'));
+
+        keyboardState.record("table", GuessScorer.score("water", "table"));
+        assertEquals(LetterResult.CORRECT, keyboardState.stateOf('t'));
+        assertEquals(LetterResult.CORRECT, keyboardState.stateOf('a'));
+        assertEquals(LetterResult.ABSENT, keyboardState.stateOf('b'));
+    }
+
+    @Test
+    void testRecord_PresentUpgradedToCorrect() {
+        KeyboardState keyboardState = new KeyboardState();
+        keyboardState.record("eagle", GuessScorer.score("water", "eagle"));
+        assertEquals(LetterResult.PRESENT, keyboardState.stateOf('e'));
+        keyboardState.record("otter", GuessScorer.score("water", "otter"));
+        assertEquals(LetterResult.CORRECT, keyboardState.stateOf('e'));
+    }
+
+    @Test
+    void testRecord_HungarianLettersBeyondFirstLong() {
+        KeyboardState keyboardState = new KeyboardState(Alphabet.HUNGARIAN);
+        keyboardState.record("győző", GuessScorer.score("szőlő", "győző"));
+        assertEquals(LetterResult.ABSENT, keyboardState.stateOf('g'));
+        assertEquals(LetterResult.ABSENT, keyboardState.stateOf('y'));
+        assertEquals(LetterResult.PRESENT, keyboardState.stateOf('z'));
+        assertEquals(LetterResult.CORRECT, keyboardState.stateOf('ő'));
+        assertNull(keyboardState.stateOf('x'));
+        assertNull(keyboardState.stateOf('ä'));
+    }
+}
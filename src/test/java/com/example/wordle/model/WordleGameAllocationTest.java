@@ -0,0 +1,72 @@
+package com.example.wordle.model;
+
+import com.example.wordle.util.AllocationMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static com.example.wordle.util.AllocationMeter.assertWithinBudget;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("allocation")
+class WordleGameAllocationTest {
+
+    private static final String[] WORDS = {"water", "apple", "pizza", "fruit", "eagle", "otter", "raise", "crane"};
+    private static final int WARMUPS = 50_000;
+    private static final int ITERATIONS = 100_000;
+
+    // bytes allocated per operation, scoring and validating must not allocate at all
+    private static final long SCORING_BUDGET = 0;
+    private static final long VALIDATION_BUDGET = 0;
+    private static final long GAME_BUDGET = 256;
+    private static final long HARD_MODE_GAME_BUDGET = 768;
+
+    private int round;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation counting is not supported");
+    }
+
+    @Test
+    void testScore_AllocatesNothing() {
+        assertWithinBudget(SCORING_BUDGET, "GuessScorer.score", WARMUPS, ITERATIONS,
+                () -> GuessScorer.score(WORDS[round++ & 7], WORDS[(round >> 3) & 7]));
+    }
+
+    @Test
+    void testSharedProfileScore_AllocatesNothing() {
+        AnswerProfile profile = new AnswerProfile("apple");
+        assertWithinBudget(SCORING_BUDGET, "AnswerProfile.score", WARMUPS, ITERATIONS,
+                () -> profile.score(WORDS[round++ & 7]));
+    }
+
+    @Test
+    void testValidate_HardMode_AllocatesNothing() {
+        WordleGame game = new WordleGame("crane", true);
+        game.attempt("carts");
+        assertWithinBudget(VALIDATION_BUDGET, "WordleGame.validate", WARMUPS, ITERATIONS,
+                () -> game.validate(WORDS[round++ & 7]).ordinal());
+    }
+
+    @Test
+    void testAttempt_FullGame_WithinBudget() {
+        assertWithinBudget(GAME_BUDGET, "a game of " + WordleGame.MAX_ATTEMPTS + " attempts", WARMUPS / 10,
+                ITERATIONS / 10, () -> {
+                    WordleGame game = new WordleGame("crane", false, 0);
+                    for (int i = 0; i < WordleGame.MAX_ATTEMPTS; i++) game.attempt(WORDS[i]);
+                    return game.getRemainingAttempts();
+                });
+    }
+
+    @Test
+    void testAttempt_HardModeGame_WithinBudget() {
+        assertWithinBudget(HARD_MODE_GAME_BUDGET, "a hard mode game", WARMUPS / 10, ITERATIONS / 10, () -> {
+            WordleGame game = new WordleGame("crane", true, 0);
+            game.tryAttempt("carts");
+            game.tryAttempt("brick");
+            game.tryAttempt("cramp");
+            return game.getRemainingAttempts();
+        });
+    }
+}
@@ -3,6 +3,8 @@ package com.example.wordle.model;
 import com.example.wordle.handler.NoGameStartedException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WordleGameTest {
@@ -83,4 +85,110 @@ class WordleGameTest {
         assertEquals("Game over! Type 'start' for a new game.", exception.getMessage());
     }
 
+    @Test
+    void testTryAttempt_ReturnsStatusWithoutThrowing(){
+        WordleGame wordleGame = new WordleGame("apple");
+        assertEquals(GuessStatus.INVALID_FORMAT, wordleGame.tryAttempt(null));
+        assertEquals(GuessStatus.INVALID_FORMAT, wordleGame.tryAttempt("car12"));
+        assertEquals(GuessStatus.INVALID_FORMAT, wordleGame.tryAttempt("elephant"));
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("Pizza"));
+        assertEquals(GuessStatus.ALREADY_GUESSED, wordleGame.tryAttempt("pizza"));
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("apple"));
+        assertEquals(GuessStatus.GAME_OVER, wordleGame.tryAttempt("water"));
+        assertEquals(List.of("pizza", "apple"), wordleGame.getPreviousAttempts());
+    }
+
+    @Test
+    void testValidate_DoesNotChangeState(){
+        WordleGame wordleGame = new WordleGame("apple");
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.validate("pizza"));
+        assertEquals(WordleGame.MAX_ATTEMPTS, wordleGame.getRemainingAttempts());
+        assertTrue(wordleGame.getPreviousAttempts().isEmpty());
+    }
+
+    @Test
+    void testHardMode_GuessMustUseRevealedHints(){
+        WordleGame wordleGame = new WordleGame("crane", true);
+        assertTrue(wordleGame.isHardMode());
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("carts"));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, wordleGame.tryAttempt("brick"));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, wordleGame.tryAttempt("crest"));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, wordleGame.tryAttempt("caper"));
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("cramp"));
+        assertEquals(List.of("carts", "cramp"), wordleGame.getPreviousAttempts());
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> wordleGame.attempt("brick"));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void testHardMode_RepeatedLetters_EnforcesCountBounds(){
+        WordleGame wordleGame = new WordleGame("abbey", true);
+        wordleGame.attempt("bobby");
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, wordleGame.validate("babes"));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, wordleGame.validate("xbbyz"));
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.validate("abbey"));
+    }
+
+    @Test
+    void testNormalMode_IgnoresHints(){
+        WordleGame wordleGame = new WordleGame("crane");
+        wordleGame.attempt("carts");
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("brick"));
+    }
+
+    @Test
+    void testTryAttempt_RecordsFeedback(){
+        WordleGame wordleGame = new WordleGame("water");
+        wordleGame.attempt("otter");
+        assertEquals(List.of(LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.CORRECT, LetterResult.CORRECT,
+                LetterResult.CORRECT), GuessScorer.toList(wordleGame.getLastFeedback(), WordleGame.MAX_LETTERS));
+    }
+
+    @Test
+    void testTryAttempt_UpdatesKeyboard(){
+        WordleGame wordleGame = new WordleGame("water");
+        assertNull(wordleGame.getKeyboard().stateOf('w'));
+        wordleGame.attempt("wheat");
+        assertEquals(LetterResult.CORRECT, wordleGame.getKeyboard().stateOf('w'));
+        assertEquals(LetterResult.PRESENT, wordleGame.getKeyboard().stateOf('a'));
+        assertEquals(LetterResult.ABSENT, wordleGame.getKeyboard().stateOf('h'));
+    }
+
+    @Test
+    void testRestore_ReplaysAttempts(){
+        WordleGame restored = WordleGame.restore("water", true, 1_000L, Alphabet.ENGLISH, List.of("otter", "wheat"));
+        assertEquals(List.of("otter", "wheat"), restored.getPreviousAttempts());
+        assertEquals(WordleGame.MAX_ATTEMPTS - 2, restored.getRemainingAttempts());
+        assertTrue(restored.isHardMode());
+        assertEquals(1_000L, restored.getStartedAtMillis());
+        assertEquals(LetterResult.CORRECT, restored.getKeyboard().stateOf('w'));
+        assertEquals(GuessStatus.HARD_MODE_VIOLATION, restored.validate("pizza"));
+    }
+
+    @Test
+    void testRestore_StopsAtFinish(){
+        WordleGame restored = WordleGame.restore("water", false, 1_000L, Alphabet.ENGLISH, List.of("water", "otter"));
+        assertEquals(List.of("water"), restored.getPreviousAttempts());
+        assertTrue(restored.isFinished());
+    }
+
+    @Test
+    void testSharedProfile_ScoresLikeOwnAnswer(){
+        AnswerProfile profile = new AnswerProfile("abbey");
+        WordleGame shared = new WordleGame(profile, false, Alphabet.ENGLISH);
+        WordleGame own = new WordleGame("abbey");
+        shared.attempt("babes");
+        own.attempt("babes");
+        assertEquals("abbey", shared.getAnswer());
+        assertEquals(own.getLastFeedback(), shared.getLastFeedback());
+    }
+
+    @Test
+    void testAttempt_HungarianAlphabet_FoldsAndValidatesWithAlphabet() {
+        WordleGame wordleGame = new WordleGame("szőlő", false, 0, Alphabet.HUNGARIAN);
+        assertEquals(GuessStatus.ACCEPTED, wordleGame.tryAttempt("GYŐZŐ"));
+        assertEquals(List.of("győző"), wordleGame.getPreviousAttempts());
+        assertEquals(GuessStatus.INVALID_FORMAT, wordleGame.tryAttempt("grüße"));
+        assertEquals(GuessStatus.INVALID_FORMAT, new WordleGame("apple").tryAttempt("győző"));
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.handler.DifficultyCacheException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifficultyRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveAndLoad_RoundTrips() {
+        DifficultyRepository repository = new DifficultyRepository(tempDir.resolve("cache").toString());
+        repository.save("abc123", new int[]{1, 3, 2, 7});
+        assertArrayEquals(new int[]{1, 3, 2, 7}, repository.load("abc123", 4));
+    }
+
+    @Test
+    void load_UnknownHash_ReturnsNull() {
+        DifficultyRepository repository = new DifficultyRepository(tempDir.toString());
+        assertNull(repository.load("missing", 4));
+    }
+
+    @Test
+    void load_WrongWordCount_Throws() {
+        DifficultyRepository repository = new DifficultyRepository(tempDir.toString());
+        repository.save("abc123", new int[]{1, 2});
+        assertThrows(DifficultyCacheException.class, () -> repository.load("abc123", 3));
+    }
+
+    @Test
+    void load_CorruptFile_Throws() throws Exception {
+        DifficultyRepository repository = new DifficultyRepository(tempDir.toString());
+        Files.write(tempDir.resolve("difficulty-abc123.bin"), new byte[]{1, 2, 3});
+        assertThrows(DifficultyCacheException.class, () -> repository.load("abc123", 0));
+    }
+
+    @Test
+    void isEnabled_BlankDirectory_ReturnsFalse() {
+        assertFalse(new DifficultyRepository("").isEnabled());
+        assertTrue(new DifficultyRepository(tempDir.toString()).isEnabled());
+    }
+}
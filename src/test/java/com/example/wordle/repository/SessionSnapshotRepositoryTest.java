@@ -0,0 +1,157 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.handler.SessionSnapshotException;
+import com.example.wordle.model.WordleGame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionSnapshotRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSaveAndLoad_RestoresGameState() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+        WordleGame hardGame = new WordleGame("crane", true, 123_456L);
+        hardGame.attempt("carts");
+        hardGame.attempt("cramp");
+        WordleGame wonGame = new WordleGame("water");
+        wonGame.attempt("water");
+        WordleGame localGame = new WordleGame("apple");
+
+        assertEquals(3, repository.save(List.of(new SessionSnapshot("alice", hardGame),
+                new SessionSnapshot("bob", wonGame), new SessionSnapshot(null, localGame))));
+        List<SessionSnapshot> restored = repository.load();
+
+        assertEquals(3, restored.size());
+        WordleGame restoredHard = restored.get(0).game();
+        assertEquals("alice", restored.get(0).sessionId());
+        assertEquals("crane", restoredHard.getAnswer());
+        assertEquals(List.of("carts", "cramp"), restoredHard.getPreviousAttempts());
+        assertEquals(WordleGame.MAX_ATTEMPTS - 2, restoredHard.getRemainingAttempts());
+        assertTrue(restoredHard.isHardMode());
+        assertEquals(123_456L, restoredHard.getStartedAtMillis());
+        assertFalse(restoredHard.isFinished());
+        assertThrows(IllegalArgumentException.class, () -> restoredHard.attempt("brick"));
+
+        assertTrue(restored.get(1).game().isFinished());
+        assertTrue(restored.get(2).isLocal());
+        assertEquals("apple", restored.get(2).game().getAnswer());
+    }
+
+    @Test
+    void testSave_SkipsUnstorableSessions() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+        String longId = "x".repeat(SessionSnapshotRepository.MAX_SESSION_ID_BYTES + 1);
+        assertEquals(1, repository.save(List.of(new SessionSnapshot(longId, new WordleGame("apple")),
+                new SessionSnapshot("alice", new WordleGame("apple")))));
+        assertEquals(1, repository.load().size());
+    }
+
+    @Test
+    void testSave_FixedWidthRecords() throws IOException {
+        Path file = tempDir.resolve("s.snapshot");
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(file.toString());
+        repository.save(List.of(new SessionSnapshot("a", new WordleGame("apple")),
+                new SessionSnapshot("b", new WordleGame("pizza"))));
+        assertEquals(16 + 2L * SessionSnapshotRepository.RECORD_BYTES, Files.size(file));
+    }
+
+    @Test
+    void testSaveAndLoad_ManyChunks_RestoresEveryGameInOrder() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+        List<String> answers = List.of("apple", "pizza", "water", "otter", "eagle");
+        List<SessionSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < 1500; i++)
+            snapshots.add(new SessionSnapshot("player-" + i, new WordleGame(answers.get(i % answers.size()))));
+
+        assertEquals(snapshots.size(), repository.save(snapshots));
+        List<SessionSnapshot> restored = repository.load();
+
+        assertEquals(snapshots.size(), restored.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals("player-" + i, restored.get(i).sessionId());
+            assertEquals(answers.get(i % answers.size()), restored.get(i).game().getAnswer());
+        }
+    }
+
+    @Test
+    void testLoad_MillionSessions_RestoresEveryGame() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+        String[] words = {"water", "apple", "pizza", "fruit", "eagle", "otter", "raise", "crane"};
+        WordleGame[] games = new WordleGame[words.length];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new WordleGame(words[i], false, i);
+            for (int attempt = 0; attempt < i % WordleGame.MAX_ATTEMPTS; attempt++)
+                games[i].attempt(words[(i + attempt + 1) % words.length]);
+        }
+        int sessions = 1_000_000;
+        List<SessionSnapshot> snapshots = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) snapshots.add(new SessionSnapshot("player-" + i, games[i % games.length]));
+        assertEquals(sessions, repository.save(snapshots));
+        snapshots = null;
+
+        // a guard against pathological slowdowns, the measured restore time is documented on the repository
+        List<SessionSnapshot> restored = assertTimeout(Duration.ofSeconds(10), repository::load);
+        assertEquals(sessions, restored.size());
+        for (int i = 0; i < sessions; i += 99_991) {
+            WordleGame game = restored.get(i).game();
+            assertEquals("player-" + i, restored.get(i).sessionId());
+            assertEquals(games[i % games.length].getPreviousAttempts(), game.getPreviousAttempts());
+            assertEquals(games[i % games.length].getRemainingAttempts(), game.getRemainingAttempts());
+        }
+    }
+
+    @Test
+    void testSave_AfterLoad_ReplacesSnapshot() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+        repository.save(List.of(new SessionSnapshot("alice", new WordleGame("apple"))));
+        assertEquals(1, repository.load().size());
+
+        repository.save(List.of(new SessionSnapshot("bob", new WordleGame("pizza")),
+                new SessionSnapshot("carol", new WordleGame("water"))));
+        assertEquals(List.of("bob", "carol"), repository.load().stream().map(SessionSnapshot::sessionId).toList());
+        assertFalse(Files.exists(tempDir.resolve("s.snapshot.tmp")));
+    }
+
+    @Test
+    void testLoad_TruncatedFile_ThrowsException() throws IOException {
+        Path file = tempDir.resolve("s.snapshot");
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(file.toString());
+        repository.save(List.of(new SessionSnapshot("a", new WordleGame("apple")),
+                new SessionSnapshot("b", new WordleGame("pizza"))));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(SessionSnapshotException.class, repository::load);
+    }
+
+    @Test
+    void testLoad_NoFile_ReturnsEmptyList() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("none").toString());
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    void testLoad_InvalidFile_ThrowsException() throws IOException {
+        Path file = tempDir.resolve("garbage.snapshot");
+        Files.writeString(file, "this is not a snapshot");
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(file.toString());
+        assertThrows(SessionSnapshotException.class, repository::load);
+    }
+
+    @Test
+    void testIsEnabled_BlankPath_Disabled() {
+        assertFalse(new SessionSnapshotRepository("").isEnabled());
+        assertTrue(new SessionSnapshotRepository("s.snapshot").isEnabled());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.DifficultyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DifficultyServiceTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void guessesToSolve_CachesByDictionaryHash() throws Exception {
+        DifficultyService difficultyService = new DifficultyService(new DifficultyRepository(tempDir.toString()));
+        int[] guesses = difficultyService.guessesToSolve(DICTIONARY);
+
+        Path cacheFile = tempDir.resolve("difficulty-" + DifficultyService.dictionaryHash(DICTIONARY) + ".bin");
+        assertTrue(Files.exists(cacheFile));
+        assertArrayEquals(guesses, difficultyService.guessesToSolve(DICTIONARY));
+    }
+
+    @Test
+    void guessesToSolve_CachedDictionary_SkipsSolver() {
+        DifficultyRepository repository = mock(DifficultyRepository.class);
+        when(repository.isEnabled()).thenReturn(true);
+        when(repository.load(DifficultyService.dictionaryHash(DICTIONARY), DICTIONARY.size()))
+                .thenReturn(new int[]{9, 9, 9, 9, 9, 9});
+        assertArrayEquals(new int[]{9, 9, 9, 9, 9, 9}, new DifficultyService(repository).guessesToSolve(DICTIONARY));
+        verify(repository, never()).save(anyString(), any());
+    }
+
+    @Test
+    void dictionaryHash_DependsOnWordsAndOrder() {
+        String hash = DifficultyService.dictionaryHash(DICTIONARY);
+        assertEquals(hash, DifficultyService.dictionaryHash(List.copyOf(DICTIONARY)));
+        assertNotEquals(hash, DifficultyService.dictionaryHash(DICTIONARY.reversed()));
+        assertEquals(16, hash.length());
+    }
+
+    @Test
+    void tiers_SplitByGuessesIntoEqualThirds() {
+        int[][] tiers = DifficultyService.tiers(new int[]{4, 1, 3, 2, 2, 5});
+        assertArrayEquals(new int[]{1, 3}, tiers[0]);
+        assertArrayEquals(new int[]{4, 2}, tiers[1]);
+        assertArrayEquals(new int[]{0, 5}, tiers[2]);
+    }
+
+    @Test
+    void tiers_FewWords_LeavesEmptyTiers() {
+        int[][] tiers = DifficultyService.tiers(new int[]{1});
+        assertEquals(0, tiers[0].length);
+        assertEquals(0, tiers[1].length);
+        assertArrayEquals(new int[]{0}, tiers[2]);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.WordleGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionServiceTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter");
+
+    private final AtomicLong now = new AtomicLong();
+    private GameSessionService gameSessionService;
+
+    @BeforeEach
+    void setUp() {
+        gameSessionService = new GameSessionService(new PlayGameService(() -> DICTIONARY), Duration.ofMinutes(10),
+                Duration.ofSeconds(1), now::get);
+    }
+
+    @Test
+    void startGame_SessionsAreIndependent() {
+        WordleGame first = gameSessionService.startGame("alice", false);
+        WordleGame second = gameSessionService.startGame("bob", true);
+        assertNotSame(first, second);
+        assertSame(first, gameSessionService.getGame("alice"));
+        assertTrue(gameSessionService.getGame("bob").isHardMode());
+        assertEquals(new SessionStats(2, 2, 0), gameSessionService.getStats());
+    }
+
+    @Test
+    void tryAttemptGuess_UsesSessionGame() {
+        WordleGame game = gameSessionService.startGame("alice", false);
+        assertTrue(gameSessionService.tryAttemptGuess("alice", game.getAnswer()).isAccepted());
+        assertTrue(game.isFinished());
+        assertEquals(GuessStatus.NO_GAME, gameSessionService.tryAttemptGuess("bob", "apple").status());
+    }
+
+    @Test
+    void evictIdle_IdleSessionEvicted_ActiveSessionKept() {
+        gameSessionService.startGame("idle", false);
+        gameSessionService.startGame("active", false);
+
+        now.set(Duration.ofMinutes(8).toMillis());
+        assertNotNull(gameSessionService.getGame("active"));
+
+        now.set(Duration.ofMinutes(11).toMillis());
+        gameSessionService.evictIdle();
+        assertNull(gameSessionService.getGame("idle"));
+        assertNotNull(gameSessionService.getGame("active"));
+        assertEquals(new SessionStats(1, 2, 1), gameSessionService.getStats());
+
+        now.set(Duration.ofMinutes(30).toMillis());
+        assertEquals(GuessStatus.NO_GAME, gameSessionService.tryAttemptGuess("active", "apple").status());
+        assertEquals(new SessionStats(0, 2, 2), gameSessionService.getStats());
+    }
+
+    @Test
+    void endSession_RemovesSession() {
+        gameSessionService.startGame("alice", false);
+        assertTrue(gameSessionService.endSession("alice"));
+        assertFalse(gameSessionService.endSession("alice"));
+        assertNull(gameSessionService.getGame("alice"));
+        assertEquals(new SessionStats(0, 1, 0), gameSessionService.getStats());
+    }
+
+    @Test
+    void startGame_SameSession_ReplacesGame() {
+        WordleGame first = gameSessionService.startGame("alice", false);
+        WordleGame second = gameSessionService.startGame("alice", false);
+        assertNotSame(first, second);
+        assertSame(second, gameSessionService.getGame("alice"));
+        assertEquals(1, gameSessionService.getStats().liveSessions());
+    }
+
+    @Test
+    void tryAttemptGuess_ConcurrentSessions_PlayIndependently() throws Exception {
+        int players = 16;
+        List<Callable<WordleGame>> games = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            String sessionId = "player-" + i;
+            games.add(() -> {
+                WordleGame game = gameSessionService.startGame(sessionId, false);
+                for (String word : DICTIONARY) gameSessionService.tryAttemptGuess(sessionId, word);
+                return game;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<WordleGame> game : executor.invokeAll(games)) {
+                assertTrue(game.get().isFinished());
+                assertEquals(WordleGame.MAX_ATTEMPTS - game.get().getRemainingAttempts(),
+                        game.get().getPreviousAttempts().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(new SessionStats(players, players, 0), gameSessionService.getStats());
+    }
+
+    @Test
+    void tryAttemptGuess_SameSessionConcurrently_RecordsEveryAcceptedGuessOnce() throws Exception {
+        WordleGame game = gameSessionService.startGame("alice", false);
+        List<Callable<GuessOutcome>> guesses = new ArrayList<>();
+        for (String word : DICTIONARY) guesses.add(() -> gameSessionService.tryAttemptGuess("alice", word));
+
+        ExecutorService executor = Executors.newFixedThreadPool(DICTIONARY.size());
+        int accepted = 0;
+        try {
+            for (Future<GuessOutcome> outcome : executor.invokeAll(guesses)) {
+                if (outcome.get().isAccepted()) accepted++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(accepted, game.getPreviousAttempts().size());
+        assertEquals(WordleGame.MAX_ATTEMPTS - accepted, game.getRemainingAttempts());
+        assertTrue(game.isFinished());
+    }
+
+    @Test
+    void evictIdle_TouchedSession_RescheduledFromLastAccess() {
+        gameSessionService.startGame("alice", false);
+        now.set(Duration.ofMinutes(9).toMillis());
+        assertNotNull(gameSessionService.getGame("alice"));
+
+        now.set(Duration.ofMinutes(12).toMillis());
+        gameSessionService.evictIdle();
+        assertEquals(new SessionStats(1, 1, 0), gameSessionService.getStats());
+
+        now.set(Duration.ofMinutes(20).toMillis());
+        gameSessionService.evictIdle();
+        assertEquals(new SessionStats(0, 1, 1), gameSessionService.getStats());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.wordle.service;
+
+import com.example.wordle.handler.HistoryIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryAnalysisServiceTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter");
+
+    private final HistoryAnalysisService historyAnalysisService =
+            new HistoryAnalysisService(new PlayGameService(() -> DICTIONARY));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void analyze_ManyChunks_MergesAllGames() throws Exception {
+        Path history = tempDir.resolve("history.txt");
+        int games = 3 * HistoryAnalysisService.CHUNK_LINES + 17;
+        try (BufferedWriter writer = Files.newBufferedWriter(history)) {
+            for (int i = 0; i < games; i++) {
+                writer.write(i % 2 == 0 ? "apple water apple" : "pizza fruit eagle");
+                writer.newLine();
+            }
+            writer.write("not a game");
+            writer.newLine();
+        }
+
+        HistoryReport report = historyAnalysisService.analyze(history);
+        assertEquals(games, report.games());
+        assertEquals((games + 1) / 2, report.wins());
+        assertEquals(1, report.skippedLines());
+        assertEquals(List.of("apple", "pizza"), report.words().stream().map(WordHistory::word).toList());
+
+        WordHistory apple = report.words().get(0);
+        assertEquals(1.0, apple.solveRate());
+        assertEquals(2.0, apple.averageGuesses());
+        WordHistory pizza = report.words().get(1);
+        assertEquals(0.0, pizza.solveRate());
+        assertEquals(0.0, pizza.averageGuesses());
+    }
+
+    @Test
+    void analyze_SameFile_SameReport() throws Exception {
+        Path history = tempDir.resolve("history.txt");
+        Files.writeString(history, "apple water apple\notter eagle fruit otter\nwater pizza\n");
+        assertEquals(historyAnalysisService.analyze(history), historyAnalysisService.analyze(history));
+    }
+
+    @Test
+    void analyze_MissingFile_Throws() {
+        assertThrows(HistoryIOException.class, () -> historyAnalysisService.analyze(tempDir.resolve("missing.txt")));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.wordle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final LeaderboardService leaderboardService =
+            new LeaderboardService(3, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private static GameFinishedEvent won(String playerId, int guesses, long durationMillis, Instant finishedAt) {
+        return new GameFinishedEvent(playerId, "apple", true, guesses, durationMillis, finishedAt);
+    }
+
+    @Test
+    void top_RanksByGuessesThenDuration() {
+        leaderboardService.onGameFinished(won("slow", 3, 9_000, NOW));
+        leaderboardService.onGameFinished(won("fast", 3, 2_000, NOW));
+        leaderboardService.onGameFinished(won("lucky", 1, 50_000, NOW));
+
+        List<String> players = leaderboardService.top(10).stream().map(LeaderboardEntry::playerId).toList();
+        assertEquals(List.of("lucky", "fast", "slow"), players);
+    }
+
+    @Test
+    void top_EqualScores_KeepsBoth() {
+        leaderboardService.onGameFinished(won("alice", 2, 1_000, NOW));
+        leaderboardService.onGameFinished(won("bob", 2, 1_000, NOW));
+        assertEquals(2, leaderboardService.top(10).size());
+    }
+
+    @Test
+    void onGameFinished_LostGame_Ignored() {
+        leaderboardService.onGameFinished(new GameFinishedEvent("alice", "apple", false, 5, 1_000, NOW));
+        assertTrue(leaderboardService.top(10).isEmpty());
+    }
+
+    @Test
+    void onGameFinished_FullBoard_KeepsBestEntries() {
+        for (int guesses = 5; guesses >= 1; guesses--) {
+            leaderboardService.onGameFinished(won("p" + guesses, guesses, 1_000, NOW));
+        }
+        leaderboardService.onGameFinished(won("late", 4, 1_000, NOW));
+
+        List<String> players = leaderboardService.top(10).stream().map(LeaderboardEntry::playerId).toList();
+        assertEquals(List.of("p1", "p2", "p3"), players);
+    }
+
+    @Test
+    void topToday_OnlyCountsCurrentDay() {
+        leaderboardService.onGameFinished(won("yesterday", 1, 1_000, NOW.minus(Duration.ofDays(1))));
+        leaderboardService.onGameFinished(won("today", 4, 1_000, NOW));
+
+        assertEquals(List.of("today"), leaderboardService.topToday(10).stream().map(LeaderboardEntry::playerId)
+                .toList());
+        assertEquals("yesterday", leaderboardService.top(1).get(0).playerId());
+    }
+
+    @Test
+    void top_LimitsResults() {
+        leaderboardService.onGameFinished(won("alice", 2, 1_000, NOW));
+        leaderboardService.onGameFinished(won("bob", 3, 1_000, NOW));
+        assertEquals(1, leaderboardService.top(1).size());
+        assertTrue(leaderboardService.top(0).isEmpty());
+    }
+
+    @Test
+    void onGameFinished_ConcurrentFinishes_KeepsBestEntries() throws Exception {
+        LeaderboardService board = new LeaderboardService(10, 1, Clock.fixed(NOW, ZoneOffset.UTC));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        board.onGameFinished(won("p", 1 + i % 5, i * 4L + offset, NOW));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> durations = board.top(100).stream().map(LeaderboardEntry::durationMillis).toList();
+        assertEquals(List.of(0L, 1L, 2L, 3L, 20L, 21L, 22L, 23L, 40L, 41L), durations);
+    }
+
+    @Test
+    void top_ReadsDuringConcurrentFinishes_SeeOrderedBoundedSnapshots() throws Exception {
+        int capacity = 10;
+        LeaderboardService board = new LeaderboardService(capacity, 1, Clock.fixed(NOW, ZoneOffset.UTC));
+        Comparator<LeaderboardEntry> ranking = Comparator.comparingInt(LeaderboardEntry::guesses)
+                .thenComparingLong(LeaderboardEntry::durationMillis);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                writers.add(executor.submit(() -> {
+                    for (int i = 5_000; i > 0; i--) {
+                        board.onGameFinished(won("p", 1 + i % 5, i * 4L + offset, NOW));
+                    }
+                }));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                readers.add(executor.submit(() -> {
+                    List<LeaderboardEntry> previous = List.of();
+                    while (writing.get()) {
+                        List<LeaderboardEntry> top = board.top(100);
+                        assertTrue(top.size() <= capacity);
+                        for (int i = 1; i < top.size(); i++)
+                            assertTrue(ranking.compare(top.get(i - 1), top.get(i)) <= 0);
+                        // a board only improves, so no position ever holds a worse entry than before
+                        for (int i = 0; i < previous.size(); i++)
+                            assertTrue(ranking.compare(top.get(i), previous.get(i)) <= 0);
+                        previous = top;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) writer.get();
+            writing.set(false);
+            for (Future<?> reader : readers) reader.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> durations = board.top(100).stream().map(LeaderboardEntry::durationMillis).toList();
+        assertEquals(List.of(20L, 21L, 22L, 23L, 40L, 41L, 42L, 43L, 60L, 61L), durations);
+    }
+}
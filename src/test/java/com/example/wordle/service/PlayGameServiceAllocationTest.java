@@ -0,0 +1,98 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.util.AllocationMeter;
+import com.example.wordle.util.WordLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.wordle.util.AllocationMeter.assertWithinBudget;
+import static com.example.wordle.util.AllocationMeter.assertWithinBudgetPerItem;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("allocation")
+class PlayGameServiceAllocationTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter",
+            "raise", "crane");
+    private static final int WORD_COUNT = 10_000;
+
+    // bytes allocated per operation, or per dictionary word for loading, scoring must not allocate at all
+    private static final long SCORING_BUDGET = 0;
+    private static final long GAME_BUDGET = 512;
+    private static final long TEXT_LOAD_BUDGET_PER_WORD = 1536;
+    private static final long FRONT_CODED_LOAD_BUDGET_PER_WORD = 256;
+    private static final long INDEX_BUDGET_PER_WORD = 256;
+
+    private final PlayGameService playGameService = new PlayGameService(() -> DICTIONARY);
+    private int round;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation counting is not supported");
+    }
+
+    @Test
+    void testEvaluateAnswer_AllocatesNothing() {
+        assertWithinBudget(SCORING_BUDGET, "evaluateAnswer", 50_000, 100_000,
+                () -> playGameService.evaluateAnswer(DICTIONARY.get(round++ & 7), DICTIONARY.get((round >> 3) & 7))
+                        .size());
+    }
+
+    @Test
+    void testTryAttemptGuess_FullGame_WithinBudget() {
+        assertWithinBudget(GAME_BUDGET, "a game of " + WordleGame.MAX_ATTEMPTS + " guesses", 5_000, 10_000, () -> {
+            WordleGame game = new WordleGame("crane", false, 0);
+            for (int i = 0; i < WordleGame.MAX_ATTEMPTS; i++)
+                playGameService.tryAttemptGuess(PlayGameService.LOCAL_PLAYER_ID, game, DICTIONARY.get(i));
+            return game.getRemainingAttempts();
+        });
+    }
+
+    @Test
+    void testLoadWordList_WithinBudgetPerWord(@TempDir Path tempDir) throws IOException {
+        byte[] text = randomDictionary();
+        Path source = tempDir.resolve("words.txt");
+        Path frontCoded = tempDir.resolve("words.wfc");
+        Files.write(source, text);
+        WordLoader.packWordList(source, frontCoded, Alphabet.ENGLISH, false);
+        byte[] packed = Files.readAllBytes(frontCoded);
+
+        assertWithinBudgetPerItem(TEXT_LOAD_BUDGET_PER_WORD, "loading a text dictionary", 10, 10,
+                () -> WordLoader.loadWeightedWordList(new ByteArrayInputStream(text), "text").size());
+        assertWithinBudgetPerItem(FRONT_CODED_LOAD_BUDGET_PER_WORD, "loading a front-coded dictionary", 10, 10,
+                () -> WordLoader.loadWeightedWordList(new ByteArrayInputStream(packed), "front-coded").size());
+    }
+
+    @Test
+    void testCheckWordListLoaded_IndexWithinBudgetPerWord() {
+        List<String> words = WordLoader.loadWordList(new ByteArrayInputStream(randomDictionary()), "text");
+        assertWithinBudgetPerItem(INDEX_BUDGET_PER_WORD, "indexing the dictionary", 5, 5, () -> {
+            PlayGameService service = new PlayGameService(() -> words);
+            service.checkWordListLoaded();
+            return service.getWordList().size();
+        });
+    }
+
+    private static byte[] randomDictionary() {
+        Random random = new Random(42);
+        StringBuilder dictionary = new StringBuilder();
+        for (int i = 0; i < WORD_COUNT; i++) {
+            for (int letter = 0; letter < WordleGame.MAX_LETTERS; letter++)
+                dictionary.append((char) ('a' + random.nextInt(26)));
+            dictionary.append(i % 3 == 0 ? " 12\n" : "\n");
+        }
+        return dictionary.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
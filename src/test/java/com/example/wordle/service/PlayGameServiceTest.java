@@ -3,15 +3,28 @@ package com.example.wordle.service;
 import com.example.wordle.handler.EmptyWordListException;
 import com.example.wordle.handler.NoGameStartedException;
 import com.example.wordle.handler.WordListIOException;
+import com.example.wordle.model.Difficulty;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
 import com.example.wordle.model.LetterResult;
+import com.example.wordle.model.WeightedWord;
 import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.WordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class PlayGameServiceTest {
 
@@ -68,6 +81,34 @@ class PlayGameServiceTest {
         assertFalse(serviceWithValidWords.isFinished());
     }
 
+    @Test
+    void startGame_WeightedWords_PicksOnlyWeightedAnswers() {
+        PlayGameService playGameService = new PlayGameService(new WordRepository() {
+            @Override
+            public List<String> loadWords() {
+                return List.of("apple", "water", "pizza");
+            }
+
+            @Override
+            public List<WeightedWord> loadWeightedWords() {
+                return List.of(new WeightedWord("apple", 0), new WeightedWord("water", 5),
+                        new WeightedWord("pizza", 0));
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            playGameService.startGame();
+            assertEquals("water", playGameService.getCurrentGame().getAnswer());
+        }
+    }
+
+    @Test
+    void startGame_HardMode_StartsHardGame() {
+        serviceWithValidWords.startGame(true);
+        assertTrue(serviceWithValidWords.getCurrentGame().isHardMode());
+        serviceWithValidWords.startGame();
+        assertFalse(serviceWithValidWords.getCurrentGame().isHardMode());
+    }
+
     @Test
     void startGame_NotValidWords_ThrowsException() {
         assertThrows(EmptyWordListException.class, serviceWithEmptyList::startGame);
@@ -75,12 +116,41 @@ class PlayGameServiceTest {
         assertThrows(IllegalArgumentException.class, serviceWithNotFound::startGame);
     }
 
+    @Test
+    void searchWords_PatternAndLetters_ReturnsMatches() {
+        assertEquals(List.of("water", "otter"), serviceWithValidWords.searchWords("???er", "t", ""));
+        assertEquals(List.of("water"), serviceWithValidWords.searchWords("???er", "t", "o"));
+    }
+
+    @Test
+    void searchWords_EmptyList_ThrowsEmptyWordListException() {
+        assertThrows(EmptyWordListException.class, () -> serviceWithEmptyList.searchWords("?????", "", ""));
+    }
+
     @Test
     void attemptGuess_BeforeGameStarted_ThrowsException() {
         Exception ex = assertThrows(IllegalStateException.class, () -> serviceWithValidWords.attemptGuess("water"));
         assertTrue(ex.getMessage().toLowerCase().contains("no game started"));
     }
 
+    @Test
+    void tryAttemptGuess_RoutineMistakes_ReturnStatus() {
+        assertEquals(GuessStatus.NO_GAME, serviceWithValidWords.tryAttemptGuess("water").status());
+
+        serviceWithValidWords.startGame();
+        String answer = serviceWithValidWords.getCurrentGame().getAnswer();
+        String different = DICTIONARY.stream().filter(w -> !w.equals(answer)).findFirst().orElseThrow();
+        assertEquals(GuessStatus.INVALID_FORMAT, serviceWithValidWords.tryAttemptGuess("wat3r").status());
+
+        GuessOutcome outcome = serviceWithValidWords.tryAttemptGuess(different);
+        assertTrue(outcome.isAccepted());
+        assertEquals(serviceWithValidWords.evaluateAnswer(answer, different), outcome.feedback());
+        assertEquals(GuessStatus.ALREADY_GUESSED, serviceWithValidWords.tryAttemptGuess(different).status());
+
+        assertTrue(serviceWithValidWords.tryAttemptGuess(answer).isAccepted());
+        assertEquals(GuessStatus.GAME_OVER, serviceWithValidWords.tryAttemptGuess(different).status());
+    }
+
     @Test
     void attemptGuess_ReturnsCorrectFeedback() {
         serviceWithValidWords.startGame();
@@ -132,6 +202,82 @@ class PlayGameServiceTest {
         assertThrows(NoGameStartedException.class, () -> playGameService.attemptGuess(newGuess));
     }
 
+    @Test
+    void tryAttemptGuess_FinishingGuess_PublishesEvent() {
+        List<Object> events = new ArrayList<>();
+        PlayGameService playGameService = new PlayGameService(() -> List.of("apple"), events::add);
+        playGameService.startGame();
+
+        playGameService.tryAttemptGuess("water");
+        assertTrue(events.isEmpty());
+        playGameService.tryAttemptGuess("apple");
+
+        assertEquals(1, events.size());
+        GameFinishedEvent event = (GameFinishedEvent) events.get(0);
+        assertEquals(PlayGameService.LOCAL_PLAYER_ID, event.playerId());
+        assertEquals("apple", event.answer());
+        assertTrue(event.won());
+        assertEquals(2, event.guesses());
+        assertTrue(event.durationMillis() >= 0);
+    }
+
+    @Test
+    void drawAnswer_ReturnsDictionaryWord() {
+        assertTrue(DICTIONARY.contains(serviceWithValidWords.drawAnswer()));
+        assertNull(serviceWithValidWords.getCurrentGame());
+        assertThrows(EmptyWordListException.class, () -> serviceWithEmptyList.drawAnswer());
+    }
+
+    @Test
+    void startGame_Difficulty_DrawsFromTier() {
+        DifficultyService difficultyService = mock(DifficultyService.class);
+        when(difficultyService.guessesToSolve(DICTIONARY)).thenReturn(new int[]{1, 1, 2, 2, 3, 3});
+        PlayGameService playGameService = new PlayGameService(() -> DICTIONARY, event -> {}, difficultyService);
+
+        for (int i = 0; i < 20; i++) {
+            playGameService.startGame(false, Difficulty.HARD);
+            assertTrue(List.of("eagle", "otter").contains(playGameService.getCurrentGame().getAnswer()));
+            playGameService.startGame(true, Difficulty.EASY);
+            assertTrue(List.of("water", "apple").contains(playGameService.getCurrentGame().getAnswer()));
+        }
+        assertTrue(playGameService.getCurrentGame().isHardMode());
+        verify(difficultyService, times(1)).guessesToSolve(DICTIONARY);
+    }
+
+    @Test
+    void drawAnswer_DifficultyFromManyThreads_MeasuresTiersOnce() throws Exception {
+        DifficultyService difficultyService = mock(DifficultyService.class);
+        CountDownLatch measuring = new CountDownLatch(1);
+        when(difficultyService.guessesToSolve(DICTIONARY)).thenAnswer(invocation -> {
+            assertTrue(measuring.await(5, TimeUnit.SECONDS));
+            return new int[]{1, 1, 2, 2, 3, 3};
+        });
+        PlayGameService playGameService = new PlayGameService(() -> DICTIONARY, event -> {}, difficultyService);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> answers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) answers.add(executor.submit(() -> playGameService.drawAnswer(Difficulty.HARD)));
+            measuring.countDown();
+            for (Future<String> answer : answers) assertTrue(List.of("eagle", "otter").contains(answer.get()));
+        } finally {
+            executor.shutdown();
+        }
+        verify(difficultyService, times(1)).guessesToSolve(DICTIONARY);
+    }
+
+    @Test
+    void drawAnswer_DifficultyWithoutDifficultyService_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> serviceWithValidWords.drawAnswer(Difficulty.EASY));
+        assertTrue(DICTIONARY.contains(serviceWithValidWords.drawAnswer()));
+    }
+
+    @Test
+    void getWordList_LoadsDictionary() {
+        assertEquals(DICTIONARY, serviceWithValidWords.getWordList());
+        assertThrows(EmptyWordListException.class, () -> serviceWithEmptyList.getWordList());
+    }
+
     @Test
     void isFinished_NoGame() {
         PlayGameService playGameService = new PlayGameService(() -> List.of("apple"));
@@ -194,6 +340,17 @@ class PlayGameServiceTest {
         assertEquals(before - 1, serviceWithValidWords.getRemainingAttempts());
     }
 
+    @Test
+    void evaluateAnswer_RepeatedGuessLetter_NeverMorePresentThanInAnswer() {
+        List<LetterResult> result = serviceWithValidWords.evaluateAnswer("APPLE", "ppppp");
+        assertEquals(List.of(
+                LetterResult.ABSENT,
+                LetterResult.CORRECT,
+                LetterResult.CORRECT,
+                LetterResult.ABSENT,
+                LetterResult.ABSENT), result);
+    }
+
     @Test
     void evaluateAnswer_PresentLetter_TwoCase() {
         PlayGameService playGameService = new PlayGameService(() -> List.of("water", "otter"));
@@ -217,4 +374,59 @@ class PlayGameServiceTest {
                 LetterResult.ABSENT,
                 LetterResult.ABSENT), result);
     }
+
+    @Test
+    void getDictionaryStatus_NotStartedThenReady() {
+        assertEquals(DictionaryStatus.Phase.NOT_STARTED, serviceWithValidWords.getDictionaryStatus().phase());
+        serviceWithValidWords.checkWordListLoaded();
+        DictionaryStatus status = serviceWithValidWords.getDictionaryStatus();
+        assertEquals(DictionaryStatus.Phase.READY, status.phase());
+        assertEquals(DICTIONARY.size(), status.words());
+        assertNull(status.error());
+    }
+
+    @Test
+    void getDictionaryStatus_LoadFailed_ReportsError() {
+        assertThrows(WordListIOException.class, serviceWithIOException::checkWordListLoaded);
+        assertThrows(WordListIOException.class, serviceWithIOException::checkWordListLoaded);
+        DictionaryStatus status = serviceWithIOException.getDictionaryStatus();
+        assertEquals(DictionaryStatus.Phase.FAILED, status.phase());
+        assertEquals("I/O error!", status.error());
+    }
+
+    @Test
+    void preloadWordList_StartWaitsForBackgroundLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PlayGameService playGameService = new PlayGameService(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DICTIONARY;
+        });
+
+        playGameService.preloadWordList();
+        assertEquals(DictionaryStatus.Phase.READING_WORDS, playGameService.getDictionaryStatus().phase());
+        assertFalse(playGameService.getReadiness().isDone());
+
+        Thread starter = new Thread(playGameService::startGame);
+        starter.start();
+        release.countDown();
+        starter.join(TimeUnit.SECONDS.toMillis(5));
+
+        playGameService.getReadiness().get(5, TimeUnit.SECONDS);
+        assertEquals(DictionaryStatus.Phase.READY, playGameService.getDictionaryStatus().phase());
+        assertNotNull(playGameService.getCurrentGame());
+    }
+
+    @Test
+    void getReadiness_LoadFailed_CompletesExceptionally() {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> serviceWithEmptyList.getReadiness().join());
+        assertInstanceOf(EmptyWordListException.class, exception.getCause());
+        DictionaryStatus status = serviceWithEmptyList.getDictionaryStatus();
+        assertEquals(DictionaryStatus.Phase.FAILED, status.phase());
+        assertEquals(exception.getCause().getMessage().strip(), status.error());
+    }
 }
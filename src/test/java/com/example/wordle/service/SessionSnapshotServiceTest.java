@@ -0,0 +1,59 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.SessionSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionSnapshotServiceTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void snapshotAndRestore_SessionsAndLocalGameSurviveRestart() {
+        SessionSnapshotRepository repository = new SessionSnapshotRepository(tempDir.resolve("s.snapshot").toString());
+
+        PlayGameService playGameService = new PlayGameService(() -> DICTIONARY);
+        GameSessionService gameSessionService = newSessionService(playGameService);
+        WordleGame aliceGame = gameSessionService.startGame("alice", true);
+        gameSessionService.tryAttemptGuess("alice", aliceGame.getAnswer().equals("pizza") ? "fruit" : "pizza");
+        playGameService.startGame();
+        String localAnswer = playGameService.getCurrentGame().getAnswer();
+
+        assertEquals(2, new SessionSnapshotService(repository, gameSessionService, playGameService).snapshot());
+
+        PlayGameService restartedPlayService = new PlayGameService(() -> DICTIONARY);
+        GameSessionService restartedSessions = newSessionService(restartedPlayService);
+        assertEquals(2, new SessionSnapshotService(repository, restartedSessions, restartedPlayService).restore());
+
+        WordleGame restoredAlice = restartedSessions.getGame("alice");
+        assertEquals(aliceGame.getAnswer(), restoredAlice.getAnswer());
+        assertEquals(aliceGame.getPreviousAttempts(), restoredAlice.getPreviousAttempts());
+        assertTrue(restoredAlice.isHardMode());
+        assertEquals(localAnswer, restartedPlayService.getCurrentGame().getAnswer());
+    }
+
+    @Test
+    void lifecycleEvents_DisabledSnapshots_DoNothing() {
+        PlayGameService playGameService = new PlayGameService(() -> DICTIONARY);
+        GameSessionService gameSessionService = newSessionService(playGameService);
+        gameSessionService.startGame("alice", false);
+        SessionSnapshotService snapshotService = new SessionSnapshotService(new SessionSnapshotRepository(""),
+                gameSessionService, playGameService);
+        assertDoesNotThrow(snapshotService::snapshotOnShutdown);
+        assertDoesNotThrow(snapshotService::restoreOnStartup);
+    }
+
+    private static GameSessionService newSessionService(PlayGameService playGameService) {
+        return new GameSessionService(playGameService, Duration.ofMinutes(10), Duration.ofSeconds(1),
+                System::currentTimeMillis);
+    }
+}
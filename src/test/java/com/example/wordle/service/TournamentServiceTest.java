@@ -0,0 +1,169 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.LetterResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentServiceTest {
+
+    private TournamentService tournamentService;
+
+    @BeforeEach
+    void setUp() {
+        tournamentService = new TournamentService(new PlayGameService(() -> List.of("apple")), Duration.ZERO, 3);
+    }
+
+    @Test
+    void submitGuess_NoTournament_ReturnsNoGame() {
+        assertEquals(GuessStatus.NO_GAME, tournamentService.submitGuess("alice", "apple").join().status());
+        assertFalse(tournamentService.join("alice"));
+    }
+
+    @Test
+    void submitGuess_NotJoined_ReturnsNoGame() {
+        tournamentService.startTournament(false);
+        CompletableFuture<GuessOutcome> outcome = tournamentService.submitGuess("alice", "apple");
+        tournamentService.scoreBatch();
+        assertEquals(GuessStatus.NO_GAME, outcome.join().status());
+    }
+
+    @Test
+    void scoreBatch_ScoresQueuedGuessesTogether() {
+        tournamentService.startTournament(false);
+        tournamentService.join("alice");
+        tournamentService.join("bob");
+
+        CompletableFuture<GuessOutcome> alice = tournamentService.submitGuess("alice", "paper");
+        CompletableFuture<GuessOutcome> bob = tournamentService.submitGuess("bob", "apple");
+        assertFalse(alice.isDone());
+
+        assertEquals(2, tournamentService.scoreBatch());
+        assertEquals(List.of(LetterResult.PRESENT, LetterResult.PRESENT, LetterResult.CORRECT, LetterResult.PRESENT,
+                LetterResult.ABSENT), alice.join().feedback());
+        assertTrue(bob.join().feedback().stream().allMatch(result -> result == LetterResult.CORRECT));
+    }
+
+    @Test
+    void scoreBatch_RejectedGuess_ReturnsStatus() {
+        tournamentService.startTournament(false);
+        tournamentService.join("alice");
+        CompletableFuture<GuessOutcome> outcome = tournamentService.submitGuess("alice", "ap");
+        tournamentService.scoreBatch();
+        assertEquals(GuessStatus.INVALID_FORMAT, outcome.join().status());
+    }
+
+    @Test
+    void standings_RankSolversFirst() {
+        tournamentService.startTournament(false);
+        for (String player : List.of("alice", "bob", "carol")) tournamentService.join(player);
+        tournamentService.submitGuess("alice", "paper");
+        tournamentService.submitGuess("bob", "paper");
+        tournamentService.scoreBatch();
+        tournamentService.submitGuess("bob", "apple");
+        tournamentService.submitGuess("carol", "apple");
+        tournamentService.scoreBatch();
+
+        List<TournamentStanding> standings = tournamentService.standings(10);
+        assertEquals(List.of("carol", "bob", "alice"), standings.stream().map(TournamentStanding::playerId).toList());
+        assertTrue(standings.get(0).solved());
+        assertEquals(2, standings.get(1).guesses());
+        assertFalse(standings.get(2).finished());
+    }
+
+    @Test
+    void standings_UpdatedByScoringBatch() {
+        tournamentService.startTournament(false);
+        tournamentService.join("alice");
+        assertTrue(tournamentService.standings(10).isEmpty());
+
+        tournamentService.scoreBatch();
+        assertEquals(List.of("alice"), tournamentService.standings(10).stream().map(TournamentStanding::playerId)
+                .toList());
+
+        tournamentService.join("bob");
+        tournamentService.submitGuess("bob", "apple");
+        assertEquals(1, tournamentService.standings(10).size());
+        tournamentService.scoreBatch();
+        List<TournamentStanding> standings = tournamentService.standings(1);
+        assertEquals(1, standings.size());
+        assertEquals("bob", standings.get(0).playerId());
+        assertTrue(standings.get(0).solved());
+    }
+
+    @Test
+    void scoreBatch_CalledConcurrently_ScoresEveryGuessOnce() throws Exception {
+        tournamentService.startTournament(false);
+        int players = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<GuessOutcome>> outcomes = new ArrayList<>();
+        AtomicInteger scored = new AtomicInteger();
+        try {
+            List<Future<?>> scorers = new ArrayList<>();
+            for (int i = 0; i < players; i++) {
+                tournamentService.join("p" + i);
+                outcomes.add(tournamentService.submitGuess("p" + i, i % 2 == 0 ? "apple" : "paper"));
+                scorers.add(executor.submit(() -> scored.addAndGet(tournamentService.scoreBatch())));
+            }
+            for (Future<?> scorer : scorers) scorer.get();
+        } finally {
+            executor.shutdown();
+        }
+        scored.addAndGet(tournamentService.scoreBatch());
+
+        assertEquals(players, scored.get());
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome.join().isAccepted()));
+        List<TournamentStanding> standings = tournamentService.standings(players);
+        assertEquals(players, standings.size());
+        assertTrue(standings.subList(0, players / 2).stream().allMatch(TournamentStanding::solved));
+        assertTrue(standings.subList(players / 2, players).stream().noneMatch(TournamentStanding::solved));
+    }
+
+    @Test
+    void pollUpdates_SlowConsumer_DropsOldest() {
+        tournamentService.startTournament(false);
+        List<String> players = List.of("a", "b", "c", "d", "e");
+        for (String player : players) {
+            tournamentService.join(player);
+            tournamentService.submitGuess(player, "paper");
+        }
+        tournamentService.scoreBatch();
+
+        List<TournamentStanding> updates = tournamentService.pollUpdates(10);
+        assertEquals(List.of("c", "d", "e"), updates.stream().map(TournamentStanding::playerId).toList());
+        assertEquals(2, tournamentService.getDroppedUpdates());
+        assertTrue(tournamentService.pollUpdates(10).isEmpty());
+    }
+
+    @Test
+    void startTournament_GuessesStillPending_ScoredWithoutLeakingUpdates() {
+        tournamentService.startTournament(false);
+        tournamentService.join("alice");
+        CompletableFuture<GuessOutcome> pending = tournamentService.submitGuess("alice", "apple");
+
+        tournamentService.startTournament(false);
+        tournamentService.join("bob");
+        CompletableFuture<GuessOutcome> current = tournamentService.submitGuess("bob", "paper");
+        assertEquals(2, tournamentService.scoreBatch());
+
+        assertTrue(pending.join().isAccepted());
+        assertTrue(current.join().isAccepted());
+        assertEquals(List.of("bob"), tournamentService.pollUpdates(10).stream().map(TournamentStanding::playerId)
+                .toList());
+        assertEquals(List.of("bob"), tournamentService.standings(10).stream().map(TournamentStanding::playerId)
+                .toList());
+        assertEquals(0, tournamentService.getDroppedUpdates());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.service.DictionaryStatus;
+import com.example.wordle.service.PlayGameService;
+import com.example.wordle.util.WordLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class DictionaryCommandsTest {
+
+    @Test
+    void testPackDictionary_WritesLoadableFile(@TempDir Path tempDir) throws IOException {
+        PlayGameService mockService = mock(PlayGameService.class);
+        when(mockService.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+        Path source = tempDir.resolve("words.txt");
+        Files.writeString(source, "apple\ncloud\n");
+        Path target = tempDir.resolve("words.wfc.gz");
+
+        String result = new DictionaryCommands(mockService).packDictionary(source.toString(), target.toString(), true);
+        assertTrue(result.startsWith("Packed 2 words"));
+        try (InputStream input = Files.newInputStream(target)) {
+            assertEquals(List.of("apple", "cloud"), WordLoader.loadWordList(input, target.toString()));
+        }
+    }
+
+    @Test
+    void testStatus_ShowsPhaseWordsAndDuration() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        DictionaryCommands commands = new DictionaryCommands(mockService);
+
+        when(mockService.getDictionaryStatus()).thenReturn(new DictionaryStatus(DictionaryStatus.Phase.READY, 84,
+                Duration.ofMillis(12), null));
+        assertEquals("Dictionary is ready: 84 words loaded in 12 ms.", commands.status());
+
+        when(mockService.getDictionaryStatus()).thenReturn(new DictionaryStatus(DictionaryStatus.Phase.BUILDING_INDEX,
+                84, Duration.ofMillis(5), null));
+        assertTrue(commands.status().contains("indexing 84 words"));
+
+        when(mockService.getDictionaryStatus()).thenReturn(new DictionaryStatus(DictionaryStatus.Phase.FAILED, 0,
+                Duration.ofMillis(3), "Word list file not found: /dictionary.txt"));
+        assertTrue(commands.status().endsWith("Word list file not found: /dictionary.txt"));
+    }
+}
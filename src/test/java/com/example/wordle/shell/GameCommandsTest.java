@@ -1,14 +1,22 @@
 package com.example.wordle.shell;
 
 import com.example.wordle.handler.EmptyWordListException;
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.Difficulty;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.KeyboardState;
 import com.example.wordle.model.LetterResult;
 import com.example.wordle.model.WordleGame;
 import com.example.wordle.service.PlayGameService;
 import org.jline.utils.AttributedString;
+import org.jline.utils.AttributedStyle;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -19,17 +27,43 @@ class GameCommandsTest {
     void testStart_ReturnStartMessage() {
         PlayGameService mockService = mock(PlayGameService.class);
         GameCommands commands = new GameCommands(mockService);
-        doNothing().when(mockService).startGame();
-        String result = commands.start();
+        doNothing().when(mockService).startGame(false, null);
+        String result = commands.start(false, "");
         assertTrue(result.contains("Game started"));
     }
 
+    @Test
+    void testStart_HardMode_StartsHardGame() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        GameCommands commands = new GameCommands(mockService);
+        String result = commands.start(true, "");
+        verify(mockService).startGame(true, null);
+        assertTrue(result.contains("hard mode"));
+    }
+
+    @Test
+    void testStart_Difficulty_StartsTieredGame() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        GameCommands commands = new GameCommands(mockService);
+        String result = commands.start(false, "Hard");
+        verify(mockService).startGame(false, Difficulty.HARD);
+        assertTrue(result.contains("hard word"));
+    }
+
+    @Test
+    void testStart_InvalidDifficulty_Throws() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        GameCommands commands = new GameCommands(mockService);
+        assertThrows(IllegalArgumentException.class, () -> commands.start(false, "brutal"));
+        verifyNoInteractions(mockService);
+    }
+
     @Test
     void testStart_handleServiceException() {
         PlayGameService mockService = mock(PlayGameService.class);
-        doThrow(new EmptyWordListException("Word list problem!")).when(mockService).startGame();
+        doThrow(new EmptyWordListException("Word list problem!")).when(mockService).startGame(false, null);
         GameCommands gameCommands = new GameCommands(mockService);
-        assertThrows(EmptyWordListException.class, gameCommands::start);
+        assertThrows(EmptyWordListException.class, () -> gameCommands.start(false, ""));
     }
 
     @Test
@@ -58,8 +92,11 @@ class GameCommandsTest {
         WordleGame game = mock(WordleGame.class);
         when(mockService.getCurrentGame()).thenReturn(game);
         when(mockService.isFinished()).thenReturn(false);
-        when(mockService.attemptGuess("apple")).thenReturn(List.of(LetterResult.PRESENT, LetterResult.CORRECT,
-                LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.CORRECT));
+        when(game.getKeyboard()).thenReturn(new KeyboardState());
+        when(game.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+        when(mockService.tryAttemptGuess("apple")).thenReturn(new GuessOutcome(GuessStatus.ACCEPTED,
+                List.of(LetterResult.PRESENT, LetterResult.CORRECT,
+                LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.CORRECT)));
         when(mockService.isWinner()).thenReturn(false);
         when(mockService.getRemainingAttempts()).thenReturn(3);
         GameCommands commands = new GameCommands(mockService);
@@ -74,8 +111,11 @@ class GameCommandsTest {
         WordleGame game = mock(WordleGame.class);
         when(mockService.getCurrentGame()).thenReturn(game);
         when(mockService.isFinished()).thenReturn(false);
-        when(mockService.attemptGuess("apple")).thenReturn(List.of(LetterResult.CORRECT, LetterResult.CORRECT,
-                LetterResult.CORRECT, LetterResult.CORRECT, LetterResult.CORRECT));
+        when(game.getKeyboard()).thenReturn(new KeyboardState());
+        when(game.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+        when(mockService.tryAttemptGuess("apple")).thenReturn(new GuessOutcome(GuessStatus.ACCEPTED,
+                List.of(LetterResult.CORRECT, LetterResult.CORRECT,
+                LetterResult.CORRECT, LetterResult.CORRECT, LetterResult.CORRECT)));
         when(mockService.isWinner()).thenReturn(true);
         GameCommands commands = new GameCommands(mockService);
         AttributedString result = commands.guess("apple");
@@ -88,8 +128,11 @@ class GameCommandsTest {
         WordleGame game = mock(WordleGame.class);
         when(mockService.getCurrentGame()).thenReturn(game);
         when(mockService.isFinished()).thenReturn(false).thenReturn(true);
-        when(mockService.attemptGuess("apple")).thenReturn(List.of(LetterResult.ABSENT, LetterResult.ABSENT,
-                LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.ABSENT));
+        when(game.getKeyboard()).thenReturn(new KeyboardState());
+        when(game.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+        when(mockService.tryAttemptGuess("apple")).thenReturn(new GuessOutcome(GuessStatus.ACCEPTED,
+                List.of(LetterResult.ABSENT, LetterResult.ABSENT,
+                LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.ABSENT)));
         when(mockService.isWinner()).thenReturn(false);
         when(game.getAnswer()).thenReturn("paper");
         GameCommands commands = new GameCommands(mockService);
@@ -99,15 +142,58 @@ class GameCommandsTest {
     }
 
     @Test
-    void testGuess_ServiceThrowsIllegalStateException() {
+    void testGuess_ShowsKeyboardColoredByBestResult() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        WordleGame game = new WordleGame("water");
+        game.attempt("otter");
+        when(mockService.getCurrentGame()).thenReturn(game);
+        when(mockService.isFinished()).thenReturn(false);
+        when(mockService.tryAttemptGuess("otter")).thenReturn(new GuessOutcome(GuessStatus.ACCEPTED,
+                List.of(LetterResult.ABSENT, LetterResult.ABSENT, LetterResult.CORRECT, LetterResult.CORRECT,
+                        LetterResult.CORRECT)));
+        GameCommands commands = new GameCommands(mockService);
+        AttributedString result = commands.guess("otter");
+        String out = result.toString();
+        assertTrue(out.contains("q w e r t y u i o p"));
+        assertTrue(out.contains(" a s d f g h j k l"));
+        assertTrue(out.contains("  z x c v b n m"));
+
+        AttributedStyle green = AttributedStyle.DEFAULT.foreground(AttributedStyle.GREEN);
+        assertEquals(green, result.styleAt(out.indexOf("q w e r t") + 4));
+        assertEquals(AttributedStyle.DEFAULT.foreground(8), result.styleAt(out.indexOf("q w e r t") + 16));
+        assertEquals(AttributedStyle.DEFAULT, result.styleAt(out.indexOf("q w e r t")));
+    }
+
+    @Test
+    void testGuess_RejectedGuess_ShowsStatusMessage() {
         PlayGameService mockService = mock(PlayGameService.class);
         WordleGame game = mock(WordleGame.class);
         when(mockService.getCurrentGame()).thenReturn(game);
         when(mockService.isFinished()).thenReturn(false);
-        when(mockService.attemptGuess(anyString())).thenThrow(new IllegalStateException("Unexpected guess: apple"));
+        when(mockService.tryAttemptGuess(anyString()))
+                .thenReturn(GuessOutcome.rejected(GuessStatus.ALREADY_GUESSED));
         GameCommands commands = new GameCommands(mockService);
         AttributedString result = commands.guess("apple");
-        assertTrue(result.toString().contains("Unexpected guess: apple"));
+        assertEquals(ExceptionHandler.WARNING_PREFIX + GuessStatus.ALREADY_GUESSED.getMessage(), result.toString());
+        verify(mockService, never()).isWinner();
+    }
+
+    @Test
+    void testSearch_ListsMatches() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        when(mockService.searchWords("?a??e", "r", "st")).thenReturn(List.of("carve", "large"));
+        GameCommands commands = new GameCommands(mockService);
+        String out = commands.search("?a??e", "r", "st").toString();
+        assertTrue(out.contains("2 matching words"));
+        assertTrue(out.contains("carve large"));
+    }
+
+    @Test
+    void testSearch_NoMatches() {
+        PlayGameService mockService = mock(PlayGameService.class);
+        when(mockService.searchWords("zzzzz", "", "")).thenReturn(List.of());
+        GameCommands commands = new GameCommands(mockService);
+        assertTrue(commands.search("zzzzz", "", "").toString().contains("No matching words"));
     }
 
     @Test
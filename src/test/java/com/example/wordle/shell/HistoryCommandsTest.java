@@ -0,0 +1,38 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.service.HistoryAnalysisService;
+import com.example.wordle.service.HistoryReport;
+import com.example.wordle.service.WordHistory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class HistoryCommandsTest {
+
+    @Test
+    void testAnalyze_ShowsSummaryAndTopWords() {
+        HistoryAnalysisService mockService = mock(HistoryAnalysisService.class);
+        when(mockService.analyze(Path.of("history.txt"))).thenReturn(new HistoryReport(4, 3, 1, 2.5, 0.25,
+                List.of(new WordHistory("apple", 3, 3, 2.0, 2.5, 0.5), new WordHistory("pizza", 1, 0, 0, 2.5, -0.5))));
+        HistoryCommands commands = new HistoryCommands(mockService);
+
+        String result = commands.analyze("history.txt", 1);
+        assertTrue(result.startsWith("4 games"));
+        assertTrue(result.contains("1 lines skipped"));
+        assertTrue(result.contains("APPLE"));
+        assertFalse(result.contains("PIZZA"));
+    }
+
+    @Test
+    void testAnalyze_NoGames() {
+        HistoryAnalysisService mockService = mock(HistoryAnalysisService.class);
+        when(mockService.analyze(Path.of("empty.txt"))).thenReturn(new HistoryReport(0, 0, 2, 0, 0, List.of()));
+        HistoryCommands commands = new HistoryCommands(mockService);
+        assertTrue(commands.analyze("empty.txt", 10).startsWith("No games found"));
+    }
+}
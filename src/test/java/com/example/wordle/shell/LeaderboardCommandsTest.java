@@ -0,0 +1,37 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.service.LeaderboardEntry;
+import com.example.wordle.service.LeaderboardService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class LeaderboardCommandsTest {
+
+    @Test
+    void testLeaderboard_ShowsEntries() {
+        LeaderboardService mockService = mock(LeaderboardService.class);
+        when(mockService.top(10)).thenReturn(List.of(new LeaderboardEntry("alice", "apple", 2, 12_000,
+                Instant.EPOCH)));
+        LeaderboardCommands commands = new LeaderboardCommands(mockService);
+        String result = commands.leaderboard(false, 10);
+        assertTrue(result.startsWith("Leaderboard:"));
+        assertTrue(result.contains("alice"));
+        assertTrue(result.contains("2 guesses"));
+        assertTrue(result.contains("APPLE"));
+    }
+
+    @Test
+    void testLeaderboard_DailyEmpty() {
+        LeaderboardService mockService = mock(LeaderboardService.class);
+        when(mockService.topToday(5)).thenReturn(List.of());
+        LeaderboardCommands commands = new LeaderboardCommands(mockService);
+        assertEquals("Nobody has won a game today yet.", commands.leaderboard(true, 5));
+        verify(mockService, never()).top(anyInt());
+    }
+}
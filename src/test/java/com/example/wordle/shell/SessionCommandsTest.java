@@ -0,0 +1,70 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.service.GameSessionService;
+import com.example.wordle.service.PlayGameService;
+import com.example.wordle.service.SessionStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SessionCommandsTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final GameSessionService gameSessionService = new GameSessionService(
+            new PlayGameService(() -> List.of("apple")), Duration.ofMinutes(10), Duration.ofSeconds(1), now::get);
+    private final SessionCommands commands = new SessionCommands(gameSessionService);
+
+    @Test
+    void testSessions_ShowsCounters() {
+        GameSessionService mockService = mock(GameSessionService.class);
+        when(mockService.getStats()).thenReturn(new SessionStats(3, 10, 7));
+        SessionCommands commands = new SessionCommands(mockService);
+        String result = commands.sessions();
+        assertTrue(result.contains("Live sessions: 3"));
+        assertTrue(result.contains("evicted after idling: 7"));
+    }
+
+    @Test
+    void testPlayerGuess_PlayersHaveSeparateGames() {
+        assertTrue(commands.playerStart("alice", false).contains("player-guess alice"));
+        commands.playerStart("bob", true);
+
+        assertTrue(commands.playerGuess("alice", "paper").toString().contains("alice has 4 more attempts"));
+        assertEquals(ExceptionHandler.WARNING_PREFIX + GuessStatus.INVALID_FORMAT.getMessage(),
+                commands.playerGuess("bob", "ap").toString());
+        assertTrue(commands.playerGuess("bob", "apple").toString().contains("bob guessed the word!"));
+        assertTrue(commands.playerGuess("alice", "apple").toString().contains("alice guessed the word!"));
+        assertEquals(new SessionStats(2, 2, 0), gameSessionService.getStats());
+    }
+
+    @Test
+    void testPlayerGuess_IdlePlayerEvicted() {
+        commands.playerStart("idle", false);
+        commands.playerStart("active", false);
+
+        now.set(Duration.ofMinutes(8).toMillis());
+        commands.playerGuess("active", "paper");
+        now.set(Duration.ofMinutes(11).toMillis());
+        gameSessionService.evictIdle();
+
+        assertEquals("No game for idle, start one with 'player-start idle'!",
+                commands.playerGuess("idle", "paper").toString());
+        assertTrue(commands.playerGuess("active", "apple").toString().contains("active guessed the word!"));
+        assertEquals("Live sessions: 1, started: 2, evicted after idling: 1", commands.sessions());
+    }
+
+    @Test
+    void testPlayerEnd_FreesSession() {
+        commands.playerStart("alice", false);
+        assertEquals("Session of alice ended.", commands.playerEnd("alice"));
+        assertEquals("No session for alice.", commands.playerEnd("alice"));
+        assertEquals(0, gameSessionService.getStats().liveSessions());
+    }
+}
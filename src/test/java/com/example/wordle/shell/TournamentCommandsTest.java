@@ -0,0 +1,103 @@
+package com.example.wordle.shell;
+
+import com.example.wordle.handler.ExceptionHandler;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.GuessOutcome;
+import com.example.wordle.model.GuessStatus;
+import com.example.wordle.model.LetterResult;
+import com.example.wordle.service.PlayGameService;
+import com.example.wordle.service.TournamentService;
+import com.example.wordle.service.TournamentStanding;
+import org.jline.utils.AttributedString;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TournamentCommandsTest {
+
+    private final TournamentService mockService = mock(TournamentService.class);
+    private final TournamentCommands commands = new TournamentCommands(mockService);
+
+    @Test
+    void testTournamentStart_JoinsLocalPlayer() {
+        assertTrue(commands.tournamentStart(false).contains("Tournament started"));
+        verify(mockService).startTournament(false);
+        verify(mockService).join(PlayGameService.LOCAL_PLAYER_ID);
+    }
+
+    @Test
+    void testTournamentGuess_NotRunning() {
+        when(mockService.isRunning()).thenReturn(false);
+        assertTrue(commands.tournamentGuess("apple").toString().contains("tournament-start"));
+        verify(mockService, never()).submitGuess(anyString(), anyString());
+    }
+
+    @Test
+    void testTournamentGuess_Solved() {
+        when(mockService.isRunning()).thenReturn(true);
+        when(mockService.getAlphabet()).thenReturn(Alphabet.ENGLISH);
+        when(mockService.submitGuess(PlayGameService.LOCAL_PLAYER_ID, "apple")).thenReturn(CompletableFuture
+                .completedFuture(new GuessOutcome(GuessStatus.ACCEPTED, Collections.nCopies(5, LetterResult.CORRECT))));
+        AttributedString result = commands.tournamentGuess("apple");
+        assertTrue(result.toString().startsWith("apple"));
+        assertTrue(result.toString().contains("Solved!"));
+    }
+
+    @Test
+    void testTournamentGuess_Rejected() {
+        when(mockService.isRunning()).thenReturn(true);
+        when(mockService.submitGuess(PlayGameService.LOCAL_PLAYER_ID, "ap"))
+                .thenReturn(CompletableFuture.completedFuture(GuessOutcome.rejected(GuessStatus.INVALID_FORMAT)));
+        assertEquals(ExceptionHandler.WARNING_PREFIX + GuessStatus.INVALID_FORMAT.getMessage(),
+                commands.tournamentGuess("ap").toString());
+    }
+
+    @Test
+    void testTournamentStandings_ShowsRanking() {
+        when(mockService.isRunning()).thenReturn(true);
+        when(mockService.standings(10)).thenReturn(List.of(new TournamentStanding("alice", 2, true, true, 0),
+                new TournamentStanding("bob", 3, false, false, 1)));
+        String result = commands.tournamentStandings(10);
+        assertTrue(result.contains(" 1. alice"));
+        assertTrue(result.contains("solved"));
+        assertTrue(result.contains(" 2. bob"));
+        assertTrue(result.contains("playing"));
+    }
+
+    @Test
+    void testTournamentUpdates_NotRunning() {
+        when(mockService.isRunning()).thenReturn(false);
+        assertEquals("No tournament is running.", commands.tournamentUpdates(10));
+        verify(mockService, never()).pollUpdates(anyInt());
+    }
+
+    @Test
+    void testTournamentUpdates_DrainsStreamAndReportsDrops() {
+        TournamentService service = new TournamentService(new PlayGameService(() -> List.of("apple")), Duration.ZERO,
+                3);
+        TournamentCommands tournamentCommands = new TournamentCommands(service);
+        tournamentCommands.tournamentStart(false);
+        for (String player : List.of("a", "b", "c", "d")) {
+            service.join(player);
+            service.submitGuess(player, "paper");
+        }
+        service.submitGuess(PlayGameService.LOCAL_PLAYER_ID, "apple");
+        service.scoreBatch();
+
+        String updates = tournamentCommands.tournamentUpdates(10);
+        assertEquals(List.of("Tournament updates:", "c            1 guesses  playing",
+                "d            1 guesses  playing", "local        1 guesses  solved",
+                "2 older updates were dropped before they were read."), updates.lines().toList());
+        assertEquals("No new tournament updates.\n2 older updates were dropped before they were read.",
+                tournamentCommands.tournamentUpdates(10));
+
+        tournamentCommands.tournamentStart(false);
+        assertEquals("No new tournament updates.", tournamentCommands.tournamentUpdates(10));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.wordle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+
+    @Test
+    void testSample_ZeroWeightNeverDrawn() {
+        AliasTable aliasTable = new AliasTable(new double[]{0, 3, 0, 1});
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int index = aliasTable.sample(random);
+            assertTrue(index == 1 || index == 3);
+        }
+    }
+
+    @Test
+    void testSample_FollowsWeights() {
+        double[] weights = {1, 2, 3, 4};
+        AliasTable aliasTable = new AliasTable(weights);
+        Random random = new Random(7);
+        int[] counts = new int[weights.length];
+        int draws = 200_000;
+        for (int i = 0; i < draws; i++) counts[aliasTable.sample(random)]++;
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10, (double) counts[i] / draws, 0.01);
+        }
+    }
+
+    @Test
+    void testSample_SingleWeight() {
+        AliasTable aliasTable = new AliasTable(new double[]{5});
+        assertEquals(1, aliasTable.size());
+        assertEquals(0, aliasTable.sample(new Random()));
+    }
+
+    @Test
+    void testConstructor_InvalidWeights_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(null));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{Double.NaN}));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.wordle.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the bytes the current thread allocates per operation with
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}. Operations are warmed up first, so the
+ * measured loop runs compiled code the way a long-lived game server would.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static int sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * @return True if the JVM can count the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        if (!THREADS.isThreadAllocatedMemorySupported()) return false;
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) THREADS.setThreadAllocatedMemoryEnabled(true);
+        return THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Runs an operation in a warm loop and measures how many bytes it allocates on average.
+     *
+     * @param warmups The number of runs before measuring.
+     * @param iterations The number of measured runs.
+     * @param operation The operation, returning a value derived from its result so that it cannot be optimized away.
+     * @return The bytes allocated per run, rounded down.
+     */
+    public static long bytesPerOperation(int warmups, int iterations, IntSupplier operation) {
+        int result = 0;
+        for (int i = 0; i < warmups; i++) result += operation.getAsInt();
+
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) result += operation.getAsInt();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+
+        sink += result;
+        return allocated / iterations;
+    }
+
+    /**
+     * Fails if an operation allocates more than its budget per run, see {@link #bytesPerOperation}.
+     *
+     * @param budget The bytes the operation may allocate per run.
+     * @param name The name of the operation shown in the failure message.
+     * @param warmups The number of runs before measuring.
+     * @param iterations The number of measured runs.
+     * @param operation The operation, returning a value derived from its result so that it cannot be optimized away.
+     */
+    public static void assertWithinBudget(long budget, String name, int warmups, int iterations,
+                                          IntSupplier operation) {
+        long allocated = bytesPerOperation(warmups, iterations, operation);
+        assertTrue(allocated <= budget, name + " allocated " + allocated + " bytes, the budget is " + budget);
+    }
+
+    /**
+     * Fails if an operation allocates more than its budget for every item it processes, e.g. per loaded word. The
+     * items are counted by a first run, which also counts as a warmup.
+     *
+     * @param budgetPerItem The bytes the operation may allocate per processed item.
+     * @param name The name of the operation shown in the failure message.
+     * @param warmups The number of runs before measuring.
+     * @param iterations The number of measured runs.
+     * @param operation The operation, returning the number of items it processed.
+     */
+    public static void assertWithinBudgetPerItem(long budgetPerItem, String name, int warmups, int iterations,
+                                                 IntSupplier operation) {
+        int items = operation.getAsInt();
+        assertTrue(items > 0, name + " processed no items");
+        long allocated = bytesPerOperation(Math.max(warmups - 1, 0), iterations, operation) / items;
+        assertTrue(allocated <= budgetPerItem, name + " allocated " + allocated + " bytes per item over " + items +
+                " items, the budget is " + budgetPerItem);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrontCodedWordsTest {
+
+    @Test
+    void testWriteRead_RoundTripSorted() throws IOException {
+        List<WeightedWord> words = List.of(new WeightedWord("crash", 3), new WeightedWord("crane", 1),
+                new WeightedWord("apple", 0.5), new WeightedWord("crank", 1));
+        assertEquals(List.of(new WeightedWord("apple", 0.5), new WeightedWord("crane", 1), new WeightedWord("crank", 1),
+                new WeightedWord("crash", 3)), roundTrip(words, Alphabet.ENGLISH));
+    }
+
+    @Test
+    void testWrite_SharedPrefixesStoredOnce() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FrontCodedWords.write(List.of(new WeightedWord("crane", 1), new WeightedWord("crank", 1)), output);
+        // magic and flags, "crane" as 0 shared + 5 characters, "crank" as 4 shared + 1 character
+        assertEquals(FrontCodedWords.MAGIC.length + 1 + 1 + 5 + 1 + 1, output.size());
+    }
+
+    @Test
+    void testWriteRead_NonAsciiLetters() throws IOException {
+        List<WeightedWord> words = List.of(new WeightedWord("győző", 2), new WeightedWord("gyöngy", 1),
+                new WeightedWord("szőlő", 1));
+        assertEquals(List.of(new WeightedWord("győző", 2), new WeightedWord("szőlő", 1)),
+                roundTrip(words, Alphabet.HUNGARIAN));
+        assertEquals(List.of(), roundTrip(words, Alphabet.ENGLISH));
+    }
+
+    @Test
+    void testWriteRead_WholeAndFractionalWeights() throws IOException {
+        List<WeightedWord> words = List.of(new WeightedWord("apple", 1), new WeightedWord("brave", 1_000_000),
+                new WeightedWord("cloud", 2.5), new WeightedWord("dance", 0.25));
+        assertEquals(words, roundTrip(words, Alphabet.ENGLISH));
+    }
+
+    @Test
+    void testRead_CorruptPrefix_ThrowsException() {
+        byte[] corrupt = {0, 3 << 4 | 2, 'a', 'b'};
+        assertThrows(IOException.class,
+                () -> FrontCodedWords.read(new ByteArrayInputStream(corrupt), Alphabet.ENGLISH));
+        byte[] unknownFlags = {7};
+        assertThrows(IOException.class,
+                () -> FrontCodedWords.read(new ByteArrayInputStream(unknownFlags), Alphabet.ENGLISH));
+    }
+
+    @Test
+    void testRead_TruncatedRecord_ThrowsException() {
+        byte[] truncated = {0, 5, 'a', 'p'};
+        assertThrows(IOException.class,
+                () -> FrontCodedWords.read(new ByteArrayInputStream(truncated), Alphabet.ENGLISH));
+    }
+
+    @Test
+    void testSkipMagic_LeavesOtherInputUnread() throws IOException {
+        ByteArrayInputStream plain = new ByteArrayInputStream("apple".getBytes());
+        assertFalse(FrontCodedWords.skipMagic(plain));
+        assertEquals('a', plain.read());
+    }
+
+    private static List<WeightedWord> roundTrip(List<WeightedWord> words, Alphabet alphabet) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FrontCodedWords.write(words, output);
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+        assertTrue(FrontCodedWords.skipMagic(input));
+        return FrontCodedWords.read(input, alphabet);
+    }
+}
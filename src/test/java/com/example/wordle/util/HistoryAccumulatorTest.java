@@ -0,0 +1,75 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryAccumulatorTest {
+
+    private static final List<String> DICTIONARY = List.of("water", "apple", "pizza", "fruit", "eagle", "otter");
+    private static final int APPLE = 1;
+    private static final int WATER = 0;
+
+    private final Map<String, Integer> wordIndexes = new HashMap<>();
+    private HistoryAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < DICTIONARY.size(); i++) wordIndexes.put(DICTIONARY.get(i), i);
+        accumulator = new HistoryAccumulator(DICTIONARY, wordIndexes, Alphabet.ENGLISH);
+    }
+
+    @Test
+    void accept_WonGame_CountsGuessesUpToAnswer() {
+        assertTrue(accumulator.accept("apple water otter apple pizza"));
+        assertEquals(1, accumulator.games(APPLE));
+        assertEquals(1, accumulator.wins(APPLE));
+        assertEquals(3, accumulator.solvedGuesses(APPLE));
+        assertEquals(3, accumulator.scoredGuesses(APPLE));
+    }
+
+    @Test
+    void accept_LostGame_CountsNoWin() {
+        assertTrue(accumulator.accept("WATER apple pizza"));
+        assertEquals(1, accumulator.games(WATER));
+        assertEquals(0, accumulator.wins(WATER));
+        assertEquals(0, accumulator.solvedGuesses(WATER));
+    }
+
+    @Test
+    void accept_FirstGuessSkillIsExpectedInformation() {
+        accumulator.accept("apple apple");
+        double skill = accumulator.skill(APPLE);
+        assertTrue(skill > 0 && skill <= Math.log(DICTIONARY.size()) / Math.log(2));
+        assertEquals(Math.log(DICTIONARY.size()) / Math.log(2) - skill, accumulator.luck(APPLE), 1e-9);
+    }
+
+    @Test
+    void accept_InvalidLines_Skipped() {
+        assertFalse(accumulator.accept(""));
+        assertFalse(accumulator.accept("apple"));
+        assertFalse(accumulator.accept("crane apple"));
+        assertFalse(accumulator.accept("apple app1e"));
+        assertFalse(accumulator.accept("apple toolong"));
+        assertEquals(5, accumulator.skippedLines());
+        assertEquals(0, accumulator.games(APPLE));
+    }
+
+    @Test
+    void merge_AddsCounters() {
+        HistoryAccumulator other = new HistoryAccumulator(DICTIONARY, wordIndexes, Alphabet.ENGLISH);
+        accumulator.accept("apple apple");
+        other.accept("apple water apple");
+        other.accept("nope");
+        accumulator.merge(other);
+        assertEquals(2, accumulator.games(APPLE));
+        assertEquals(3, accumulator.solvedGuesses(APPLE));
+        assertEquals(1, accumulator.skippedLines());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.wordle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceSolverTest {
+
+    @Test
+    void guessesToSolve_SingleWord_OneGuess() {
+        assertArrayEquals(new int[]{1}, ReferenceSolver.guessesToSolve(List.of("apple")));
+    }
+
+    @Test
+    void guessesToSolve_Empty_ReturnsEmpty() {
+        assertEquals(0, ReferenceSolver.guessesToSolve(List.of()).length);
+    }
+
+    @Test
+    void guessesToSolve_FirstGuessSolvesOneWord() {
+        int[] guesses = ReferenceSolver.guessesToSolve(List.of("water", "apple", "pizza", "fruit", "eagle", "otter"));
+        assertEquals(1, Arrays.stream(guesses).filter(count -> count == 1).count());
+        assertTrue(Arrays.stream(guesses).allMatch(count -> count >= 1 && count <= 6));
+    }
+
+    @Test
+    void guessesToSolve_LargeDictionary_IsDeterministic() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>();
+        while (words.size() < 1_000) {
+            char[] letters = new char[5];
+            for (int i = 0; i < letters.length; i++) letters[i] = (char) ('a' + random.nextInt(26));
+            String word = new String(letters);
+            if (!words.contains(word)) words.add(word);
+        }
+
+        int[] guesses = ReferenceSolver.guessesToSolve(words);
+        assertArrayEquals(guesses, ReferenceSolver.guessesToSolve(words));
+        assertTrue(Arrays.stream(guesses).allMatch(count -> count >= 1));
+    }
+
+    @Test
+    void guessesToSolve_MixedLengths_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> ReferenceSolver.guessesToSolve(List.of("apple", "pear")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.wordle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static class NamedEntry extends TimingWheel.Entry {
+        private final String name;
+
+        NamedEntry(String name) {
+            this.name = name;
+        }
+    }
+
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void testAdvance_ExpiresOnlyDueEntries() {
+        TimingWheel<NamedEntry> wheel = new TimingWheel<>(10, 100, 0);
+        wheel.schedule(new NamedEntry("short"), 0, 30);
+        wheel.schedule(new NamedEntry("long"), 0, 90);
+        assertEquals(2, wheel.size());
+
+        assertEquals(0, wheel.advance(20, entry -> expired.add(entry.name)));
+        assertEquals(1, wheel.advance(30, entry -> expired.add(entry.name)));
+        assertEquals(List.of("short"), expired);
+        assertEquals(1, wheel.advance(95, entry -> expired.add(entry.name)));
+        assertEquals(List.of("short", "long"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testSchedule_RescheduleDelaysExpiry() {
+        TimingWheel<NamedEntry> wheel = new TimingWheel<>(10, 100, 0);
+        NamedEntry entry = new NamedEntry("touched");
+        wheel.schedule(entry, 0, 50);
+        wheel.advance(40, e -> expired.add(e.name));
+        wheel.schedule(entry, 40, 50);
+        wheel.advance(80, e -> expired.add(e.name));
+        assertTrue(expired.isEmpty());
+        wheel.advance(90, e -> expired.add(e.name));
+        assertEquals(List.of("touched"), expired);
+    }
+
+    @Test
+    void testCancel_RemovesEntry() {
+        TimingWheel<NamedEntry> wheel = new TimingWheel<>(10, 100, 0);
+        NamedEntry entry = new NamedEntry("cancelled");
+        wheel.schedule(entry, 0, 20);
+        assertTrue(wheel.cancel(entry));
+        assertFalse(wheel.cancel(entry));
+        assertEquals(0, wheel.advance(1_000, e -> expired.add(e.name)));
+    }
+
+    @Test
+    void testAdvance_DelayLongerThanRotation_WaitsForDeadline() {
+        TimingWheel<NamedEntry> wheel = new TimingWheel<>(10, 30, 0);
+        wheel.schedule(new NamedEntry("far"), 0, 500);
+        for (long now = 10; now < 500; now += 10) wheel.advance(now, e -> expired.add(e.name));
+        assertTrue(expired.isEmpty());
+        wheel.advance(500, e -> expired.add(e.name));
+        assertEquals(List.of("far"), expired);
+    }
+
+    @Test
+    void testAdvance_LargeJump_ExpiresEverything() {
+        TimingWheel<NamedEntry> wheel = new TimingWheel<>(10, 100, 0);
+        for (int i = 0; i < 1_000; i++) wheel.schedule(new NamedEntry("e" + i), 0, i % 100 + 1);
+        assertEquals(1_000, wheel.advance(1_000_000, e -> expired.add(e.name)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testConstructor_InvalidTick_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<NamedEntry>(0, 100, 0));
+    }
+}
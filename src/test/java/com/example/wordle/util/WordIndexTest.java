@@ -0,0 +1,79 @@
+package com.example.wordle.util;
+
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WordleGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordIndexTest {
+
+    private static final List<String> WORDS = List.of("water", "apple", "pizza", "fruit", "eagle", "otter", "raise",
+            "sabre", "carve", "dance");
+
+    private final WordIndex wordIndex = new WordIndex(WORDS, WordleGame.MAX_LETTERS);
+
+    @Test
+    void testSearch_PatternOnly() {
+        assertEquals(List.of("water", "eagle", "raise", "sabre", "carve", "dance"), wordIndex.search("?a???", "", ""));
+        assertEquals(List.of("eagle", "raise", "sabre", "carve", "dance"), wordIndex.search("?A??e", null, null));
+    }
+
+    @Test
+    void testSearch_PatternIncludeExclude() {
+        assertEquals(List.of("carve"), wordIndex.search("?a??e", "r", "st"));
+        assertEquals(List.of("raise", "sabre", "carve"), wordIndex.search("?a??e", "r", ""));
+    }
+
+    @Test
+    void testSearch_RepeatedIncludedLetter_RequiresMinCount() {
+        assertEquals(List.of("apple"), wordIndex.search("?????", "pp", ""));
+        assertEquals(List.of("pizza"), wordIndex.search("?????", "zz", ""));
+        assertEquals(List.of("otter"), wordIndex.search("?????", "tt", ""));
+        assertEquals(List.of(), wordIndex.search("?????", "pppppp", ""));
+    }
+
+    @Test
+    void testSearch_ExcludeOnly() {
+        assertEquals(List.of("pizza", "fruit"), wordIndex.search("?????", "", "e"));
+    }
+
+    @Test
+    void testSearch_NonAsciiLetter_NoMatches() {
+        assertEquals(List.of(), wordIndex.search("é????", "", ""));
+    }
+
+    @Test
+    void testSearch_LargeDictionary_CrossesBlocks() {
+        List<String> words = IntStream.range(0, 200)
+                .mapToObj(i -> "" + (char) ('a' + i % 26) + (char) ('a' + i / 26) + "xyz")
+                .toList();
+        WordIndex largeIndex = new WordIndex(words, WordleGame.MAX_LETTERS);
+        assertEquals(200, largeIndex.count("??xyz", "", ""));
+        assertEquals(words.stream().filter(w -> w.charAt(1) == 'g').toList(), largeIndex.search("?g???", "", ""));
+        assertEquals(8, largeIndex.count("a????", "", ""));
+    }
+
+    @Test
+    void testSearch_InvalidQuery_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> wordIndex.search("?a?", "", ""));
+        assertThrows(IllegalArgumentException.class, () -> wordIndex.search(null, "", ""));
+        assertThrows(IllegalArgumentException.class, () -> wordIndex.search("?a?1?", "", ""));
+        assertThrows(IllegalArgumentException.class, () -> wordIndex.search("?????", "r5", ""));
+        assertThrows(IllegalArgumentException.class, () -> wordIndex.search("?????", "", "*"));
+    }
+
+    @Test
+    void testSearch_HungarianAlphabet() {
+        WordIndex hungarianIndex = new WordIndex(List.of("győző", "szőlő", "zsűri", "hőség", "körte", "tükör"),
+                WordleGame.MAX_LETTERS, Alphabet.HUNGARIAN);
+        assertEquals(List.of("győző", "szőlő"), hungarianIndex.search("??ő?Ő", "", ""));
+        assertEquals(List.of("győző", "szőlő", "zsűri"), hungarianIndex.search("?????", "z", ""));
+        assertEquals(List.of("zsűri", "körte", "tükör"), hungarianIndex.search("?????", "", "Ő"));
+        assertEquals(List.of("győző"), hungarianIndex.search("?????", "őőy", ""));
+        assertEquals(List.of(), hungarianIndex.search("ä????", "", ""));
+    }
+}
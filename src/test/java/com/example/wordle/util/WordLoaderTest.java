@@ -1,11 +1,21 @@
 package com.example.wordle.util;
 
 import com.example.wordle.handler.WordListIOException;
+import com.example.wordle.model.Alphabet;
+import com.example.wordle.model.WeightedWord;
 import com.example.wordle.model.WordleGame;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +34,22 @@ class WordLoaderTest {
         assertTrue(result.stream().allMatch(word -> word.equals(word.toLowerCase())));
     }
 
+    @Test
+    void testWeightedWordList_FrequencyColumn_ParsedOrDefaulted(){
+        String wordList = String.join("\n", "apple 120", "Brave\t2.5", "cloud", "dream -3", "eagle often",
+                "fruit 1 2", "water 0");
+        InputStream inputStream = new ByteArrayInputStream(wordList.getBytes());
+        List<WeightedWord> result = WordLoader.loadWeightedWordList(inputStream, "test");
+        assertEquals(List.of(new WeightedWord("apple", 120), new WeightedWord("brave", 2.5),
+                new WeightedWord("cloud", 1)), result);
+    }
+
+    @Test
+    void testWordList_FrequencyColumn_ReturnsWordsOnly(){
+        InputStream inputStream = new ByteArrayInputStream("apple 120\ncloud".getBytes());
+        assertEquals(List.of("apple", "cloud"), WordLoader.loadWordList(inputStream, "test"));
+    }
+
     @Test
     void testWordList_NUllInputStream_ThrowsException(){
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -44,4 +70,65 @@ class WordLoaderTest {
                 () -> WordLoader.loadWordList(inputStream, "test-ioexception"));
         assertEquals("Error reading word list file: test-ioexception", exception.getMessage());
     }
+
+    @Test
+    void testWordList_Alphabet_FoldsAndFiltersLetters(){
+        byte[] wordList = String.join("\n", "Grüße", "apple", "győző", "STRAß").getBytes(StandardCharsets.UTF_8);
+        assertEquals(List.of("grüße", "apple", "straß"),
+                WordLoader.loadWordList(new ByteArrayInputStream(wordList), "test", Alphabet.GERMAN));
+        assertEquals(List.of("apple"), WordLoader.loadWordList(new ByteArrayInputStream(wordList), "test"));
+    }
+
+    @Test
+    void testWeightedWordList_GzipInput_Decompressed() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("apple 120\nBrave\ntoolong".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of(new WeightedWord("apple", 120), new WeightedWord("brave", 1)),
+                WordLoader.loadWeightedWordList(new ByteArrayInputStream(compressed.toByteArray()), "test.gz"));
+    }
+
+    @Test
+    void testWordList_CorruptGzip_ThrowsException() {
+        byte[] corrupt = {(byte) 0x1f, (byte) 0x8b, 1, 2, 3};
+        assertThrows(WordListIOException.class,
+                () -> WordLoader.loadWordList(new ByteArrayInputStream(corrupt), "corrupt.gz"));
+    }
+
+    @Test
+    void testPackWordList_FrontCodedAndGzip_LoadBack(@TempDir Path tempDir) throws IOException {
+        Path source = tempDir.resolve("words.txt");
+        Files.writeString(source, "water 3\napple\nwaste\nwatch 0.5\n");
+        List<WeightedWord> expected = List.of(new WeightedWord("apple", 1), new WeightedWord("waste", 1),
+                new WeightedWord("watch", 0.5), new WeightedWord("water", 3));
+
+        for (boolean gzip : new boolean[]{false, true}) {
+            Path target = tempDir.resolve(gzip ? "words.wfc.gz" : "words.wfc");
+            assertEquals(4, WordLoader.packWordList(source, target, Alphabet.ENGLISH, gzip));
+            try (InputStream input = Files.newInputStream(target)) {
+                assertEquals(expected, WordLoader.loadWeightedWordList(input, target.toString()));
+            }
+        }
+    }
+
+    @Test
+    void testPackWordList_SmallerThanPlainText(@TempDir Path tempDir) throws IOException {
+        Path source = tempDir.resolve("words.txt");
+        Files.write(source, IntStream.range(0, 26 * 26)
+                .mapToObj(i -> "st" + (char) ('a' + i / 26) + (char) ('a' + i % 26) + "e")
+                .toList());
+        Path frontCoded = tempDir.resolve("words.wfc");
+        Path compressed = tempDir.resolve("words.wfc.gz");
+        WordLoader.packWordList(source, frontCoded, Alphabet.ENGLISH, false);
+        WordLoader.packWordList(source, compressed, Alphabet.ENGLISH, true);
+        assertTrue(Files.size(frontCoded) * 3 / 2 < Files.size(source));
+        assertTrue(Files.size(compressed) * 4 < Files.size(source));
+    }
+
+    @Test
+    void testPackWordList_MissingSource_ThrowsException(@TempDir Path tempDir) {
+        assertThrows(WordListIOException.class, () -> WordLoader.packWordList(tempDir.resolve("none.txt"),
+                tempDir.resolve("out.wfc"), Alphabet.ENGLISH, false));
+    }
 }